@@ -0,0 +1,261 @@
+package controller;
+
+import model.comment.Comment;
+import model.comment.CommentManager;
+import model.comment.CommentWithSender;
+import model.database.CancellableQueries;
+import model.database.SqliteConnectionPool;
+import model.project.Project;
+import model.project.ProjectManager;
+import model.team.TeamManager;
+import model.user.User;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AsyncManagerFacade runs the queries of the managers on dedicated worker threads, so the
+ * controllers can call them from Swing listeners without blocking the Event Dispatch Thread while
+ * the database works. The workers are either a fixed pool of platform threads or a virtual thread
+ * for each call, as chosen by the ExecutorMode. Either way, at most one call runs for each
+ * read-only database connection, and the others wait without a timeout, instead of giving up when
+ * the connection pool is saturated.
+ *
+ * <p>Each call returns a CompletableFuture, which is completed on the Event Dispatch Thread: the
+ * stages attached to it, like thenAccept or whenComplete, can update the Swing components directly.
+ * If the call fails, the future is completed exceptionally with the exception thrown by the
+ * manager, which can be retrieved with getFailure. Cancelling a future whose result is not needed
+ * anymore interrupts the running query of the call, and a call which has not started yet is
+ * skipped.
+ *
+ * <p>Remark that only the queries are offered asynchronously. The updates stay synchronous, since
+ * they are short writes, whose errors the controllers show in a dialog right away, before the user
+ * can continue.
+ *
+ * <p>Implemented with the singleton pattern.
+ */
+public class AsyncManagerFacade {
+  protected static AsyncManagerFacade instance;
+
+  private final ExecutorMode executorMode;
+  private final Executor executor;
+  private final SqliteConnectionPool connectionPool = SqliteConnectionPool.getInstance();
+  private final ProjectManager projectManager = ProjectManager.getInstance();
+  private final TeamManager teamManager = TeamManager.getInstance();
+  private final CommentManager commentManager = CommentManager.getInstance();
+
+  /** A call of a manager, which may throw any of the exceptions of the manager. */
+  public interface ManagerCall<T> {
+    T call() throws Exception;
+  }
+
+  private AsyncManagerFacade(ExecutorMode executorMode, Executor executor) {
+    this.executorMode = executorMode;
+    this.executor = executor;
+  }
+
+  /** Implemented with the singleton pattern. */
+  public static AsyncManagerFacade getInstance() {
+    if (instance == null) {
+      int workerCount = SqliteConnectionPool.getInstance().getReaderCount();
+      ExecutorMode executorMode = ExecutorMode.fromSystemProperty();
+      Executor executor = null;
+      if (executorMode == ExecutorMode.VIRTUAL_THREADS) {
+        executor = createVirtualThreadExecutor(workerCount);
+        if (executor == null) {
+          executorMode = ExecutorMode.PLATFORM_THREADS;
+        }
+      }
+      if (executor == null) {
+        executor = createWorkerPool(workerCount);
+      }
+      instance = new AsyncManagerFacade(executorMode, executor);
+    }
+    return instance;
+  }
+
+  /** @return the executor mode actually used, which may differ from the requested one. */
+  public ExecutorMode getExecutorMode() {
+    return executorMode;
+  }
+
+  private static Executor createWorkerPool(int workerCount) {
+    AtomicInteger createdWorkers = new AtomicInteger();
+    return Executors.newFixedThreadPool(
+        workerCount,
+        runnable -> {
+          Thread worker =
+              new Thread(runnable, "manager-worker-" + createdWorkers.incrementAndGet());
+          // the workers must not keep the application alive after its frames are closed
+          worker.setDaemon(true);
+          return worker;
+        });
+  }
+
+  /**
+   * Creates an executor which starts a new virtual thread for each call, and lets at most
+   * runningCount of them run the call at once. The virtual threads are created through reflection,
+   * so the application still runs on Java 11.
+   *
+   * @return the executor, or null if the runtime does not support virtual threads.
+   */
+  @Nullable
+  private static Executor createVirtualThreadExecutor(int runningCount) {
+    ThreadFactory virtualThreadFactory;
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder =
+          builderClass
+              .getMethod("name", String.class, long.class)
+              .invoke(builder, "manager-virtual-worker-", 1L);
+      virtualThreadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      // the runtime is older than Java 21, so the caller falls back to platform threads
+      return null;
+    }
+    // fair, so that the calls run in the order of their requests
+    Semaphore runningCalls = new Semaphore(runningCount, true);
+    return call ->
+        virtualThreadFactory
+            .newThread(
+                () -> {
+                  // the sqlite driver is native code, which pins the carrier thread while a query
+                  // runs, so only as many calls run as there are connections
+                  runningCalls.acquireUninterruptibly();
+                  try {
+                    call.run();
+                  } finally {
+                    runningCalls.release();
+                  }
+                })
+            .start();
+  }
+
+  /**
+   * Runs a call of a manager on a worker thread.
+   *
+   * @param call is the call to run. It must not update the Swing components.
+   * @return the future result of the call, completed on the Event Dispatch Thread. It can be
+   *     cancelled, which also cancels the queries of the call.
+   */
+  public <T> CompletableFuture<T> supply(ManagerCall<T> call) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    executor.execute(
+        () -> {
+          if (result.isDone()) {
+            // cancelled while it was waiting for a worker
+            return;
+          }
+          try (CancellableQueries queries = connectionPool.beginCancellableQueries()) {
+            result.whenComplete(
+                (value, e) -> {
+                  if (result.isCancelled()) {
+                    queries.cancel();
+                  }
+                });
+            T value = call.call();
+            SwingUtilities.invokeLater(() -> result.complete(value));
+          } catch (Exception e) {
+            SwingUtilities.invokeLater(() -> result.completeExceptionally(e));
+          }
+        });
+    return result;
+  }
+
+  /**
+   * Returns the exception thrown by the manager, from the exception passed to a stage of a future
+   * returned by this facade.
+   */
+  public static Exception getFailure(Throwable throwable) {
+    Throwable cause = throwable;
+    if (cause instanceof CompletionException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof Exception) {
+      return (Exception) cause;
+    }
+    throw (Error) cause;
+  }
+
+  /** @see TeamManager#getMembersOfTeam(int) */
+  public CompletableFuture<List<User>> getMembersOfTeam(int teamId) {
+    return supply(() -> teamManager.getMembersOfTeam(teamId));
+  }
+
+  /** @see CommentManager#getLatestCommentsOfProject(int, int) */
+  public CompletableFuture<List<CommentWithSender>> getLatestCommentsOfProject(
+      int projectId, int count) {
+    return supply(() -> commentManager.getLatestCommentsOfProject(projectId, count));
+  }
+
+  /** @see CommentManager#getOlderCommentsOfProject(int, Comment, int) */
+  public CompletableFuture<List<CommentWithSender>> getOlderCommentsOfProject(
+      int projectId, Comment firstLoadedComment, int count) {
+    return supply(
+        () -> commentManager.getOlderCommentsOfProject(projectId, firstLoadedComment, count));
+  }
+
+  /**
+   * @see ProjectManager#getProjectsOfTeamPage(int, String, String, EnumSet, EnumSet,
+   *     Project.SorterType, boolean, Project, int)
+   */
+  public CompletableFuture<List<Project>> getProjectsOfTeamPage(
+      int teamId,
+      @Nullable String supervisorName,
+      @Nullable String assigneeName,
+      EnumSet<Project.Status> allowedStatuses,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending,
+      @Nullable Project lastProjectOfPreviousPage,
+      int pageSize) {
+    return supply(
+        () ->
+            projectManager.getProjectsOfTeamPage(
+                teamId,
+                supervisorName,
+                assigneeName,
+                allowedStatuses,
+                allowedDeadlineStatuses,
+                sorterType,
+                descending,
+                lastProjectOfPreviousPage,
+                pageSize));
+  }
+
+  /**
+   * @see ProjectManager#getProjectsPage(boolean, boolean, EnumSet, EnumSet, Project.SorterType,
+   *     boolean, Project, int)
+   */
+  public CompletableFuture<List<Project>> getProjectsPage(
+      boolean assignedToCurrentUser,
+      boolean supervisedByCurrentUser,
+      EnumSet<Project.Status> allowedStatuses,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending,
+      @Nullable Project lastProjectOfPreviousPage,
+      int pageSize) {
+    return supply(
+        () ->
+            projectManager.getProjectsPage(
+                assignedToCurrentUser,
+                supervisedByCurrentUser,
+                allowedStatuses,
+                allowedDeadlineStatuses,
+                sorterType,
+                descending,
+                lastProjectOfPreviousPage,
+                pageSize));
+  }
+}
@@ -0,0 +1,31 @@
+package controller;
+
+/**
+ * ExecutorMode specifies on which threads the AsyncManagerFacade runs the calls of the managers.
+ */
+public enum ExecutorMode {
+  /**
+   * A fixed pool of platform threads, one for each read-only database connection. The calls wait in
+   * the queue of the pool while all threads are busy. Available on every Java version.
+   */
+  PLATFORM_THREADS,
+  /**
+   * A new virtual thread for each call, so any number of calls can be in flight at once, waiting
+   * cheaply. A semaphore lets only as many of them run as there are read-only database connections.
+   * Requires Java 21: on older versions the platform threads are used instead.
+   */
+  VIRTUAL_THREADS;
+
+  /** The system property which can be used to choose the executor mode at startup. */
+  public static final String PROPERTY_NAME = "projectmanagement.executorMode";
+
+  /**
+   * @return the executor mode set by the system property. If it is not set, VIRTUAL_THREADS if the
+   *     runtime supports virtual threads, PLATFORM_THREADS otherwise.
+   */
+  public static ExecutorMode fromSystemProperty() {
+    String defaultMode =
+        Runtime.version().feature() >= 21 ? VIRTUAL_THREADS.name() : PLATFORM_THREADS.name();
+    return valueOf(System.getProperty(PROPERTY_NAME, defaultMode));
+  }
+}
@@ -1,14 +1,14 @@
 package controller.project;
 
+import controller.AsyncManagerFacade;
 import controller.CloseablePropertyChangeListener;
-import model.InexistentDatabaseEntityException;
 import model.PropertyChangeObservable;
 import model.project.Project;
 import model.project.ProjectManager;
+import model.project.events.ProjectChangeEvent;
 import model.team.TeamManager;
+import model.team.events.TeamChangeEvent;
 import model.user.User;
-import model.user.exceptions.InexistentUserException;
-import model.user.exceptions.NoSignedInUserException;
 import org.jetbrains.annotations.Nullable;
 import view.ErrorDialogFactory;
 import view.project.ProjectFilterPanel;
@@ -20,6 +20,7 @@ import java.sql.SQLException;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * ProjectFilterController controls the ProjectFilterPanel containing the filters applied to the
@@ -35,6 +36,7 @@ public class ProjectFilterController implements CloseablePropertyChangeListener
 
   private ProjectManager projectManager;
   private TeamManager teamManager;
+  private AsyncManagerFacade asyncManagers;
   private Integer teamId;
   private ProjectListModel projectListModel;
   private ProjectFilterPanel panel;
@@ -55,6 +57,7 @@ public class ProjectFilterController implements CloseablePropertyChangeListener
     this.teamId = teamId;
     projectManager = ProjectManager.getInstance();
     teamManager = TeamManager.getInstance();
+    asyncManagers = AsyncManagerFacade.getInstance();
     this.projectListModel = projectListModel;
     this.panel = panel;
     propertyChangeObservables = List.of(teamManager, projectManager);
@@ -63,6 +66,9 @@ public class ProjectFilterController implements CloseablePropertyChangeListener
 
   @Override
   public void propertyChange(PropertyChangeEvent evt) {
+    if (teamId != null && !concernsTeam(evt)) {
+      return;
+    }
     if (evt.getPropertyName()
             .equals(ProjectManager.ProjectChangeablePropertyName.UPDATE_PROJECT.toString())
         || evt.getPropertyName()
@@ -71,7 +77,9 @@ public class ProjectFilterController implements CloseablePropertyChangeListener
             .equals(ProjectManager.ProjectChangeablePropertyName.DELETE_PROJECT.toString())
         || evt.getPropertyName()
             .equals(ProjectManager.ProjectChangeablePropertyName.SET_PROJECT_STATUS.toString())) {
-      panel.applyFilter();
+      if (!projectListModel.reloadLoadedPages()) {
+        panel.applyFilter();
+      }
     } else if (enableProjectSelectionForTeam()) {
       if (evt.getPropertyName()
               .equals(TeamManager.ChangablePropertyName.ADDED_TEAM_MEMBER.toString())
@@ -82,6 +90,20 @@ public class ProjectFilterController implements CloseablePropertyChangeListener
     }
   }
 
+  /**
+   * @return false if the event is a typed event about the projects of other teams than the team
+   *     with teamId, or about other teams, so it can be ignored.
+   */
+  private boolean concernsTeam(PropertyChangeEvent evt) {
+    if (evt instanceof ProjectChangeEvent) {
+      return ((ProjectChangeEvent) evt).concernsTeam(teamId);
+    }
+    if (evt instanceof TeamChangeEvent) {
+      return ((TeamChangeEvent<?>) evt).concerns(teamId);
+    }
+    return true;
+  }
+
   public List<User> getTeamMembers() {
     try {
       return teamManager.getMembersOfTeam(teamId);
@@ -102,21 +124,39 @@ public class ProjectFilterController implements CloseablePropertyChangeListener
       String supervisorName,
       Project.SorterType sorterType,
       boolean descending) {
-    assigneeName = convertAnyoneStringToNull(assigneeName);
-    supervisorName = convertAnyoneStringToNull(supervisorName);
-    try {
-      projectListModel.setProjectList(
-          projectManager.getProjectsOfTeam(
-              teamId,
-              supervisorName,
-              assigneeName,
-              EnumSet.copyOf(selectedStatuses),
-              EnumSet.copyOf(selectedDeadlineStatuses),
-              sorterType,
-              descending));
-    } catch (SQLException | InexistentDatabaseEntityException | InexistentUserException e) {
-      ErrorDialogFactory.createErrorDialog(e, null, null);
-    }
+    String assignee = convertAnyoneStringToNull(assigneeName);
+    String supervisor = convertAnyoneStringToNull(supervisorName);
+    EnumSet<Project.Status> allowedStatuses = EnumSet.copyOf(selectedStatuses);
+    EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses =
+        EnumSet.copyOf(selectedDeadlineStatuses);
+    projectListModel.loadFirstPage(
+        (lastLoadedProject, pageSize) ->
+            showFailure(
+                asyncManagers.getProjectsOfTeamPage(
+                    teamId,
+                    supervisor,
+                    assignee,
+                    allowedStatuses,
+                    allowedDeadlineStatuses,
+                    sorterType,
+                    descending,
+                    lastLoadedProject,
+                    pageSize)));
+  }
+
+  /**
+   * Shows the failure of the query of a page, unless the page was cancelled.
+   *
+   * @return the page itself, so cancelling it still cancels the query.
+   */
+  private CompletableFuture<List<Project>> showFailure(CompletableFuture<List<Project>> page) {
+    page.whenComplete(
+        (projects, e) -> {
+          if (e != null && !page.isCancelled()) {
+            ErrorDialogFactory.createErrorDialog(AsyncManagerFacade.getFailure(e), null, null);
+          }
+        });
+    return page;
   }
 
   private String convertAnyoneStringToNull(String s) {
@@ -133,18 +173,21 @@ public class ProjectFilterController implements CloseablePropertyChangeListener
       boolean supervisedByUser,
       Project.SorterType sorterType,
       boolean descending) {
-    try {
-      projectListModel.setProjectList(
-          projectManager.getProjects(
-              assignedToUser,
-              supervisedByUser,
-              EnumSet.copyOf(selectedStatuses),
-              EnumSet.copyOf(selectedDeadlineStatuses),
-              sorterType,
-              descending));
-    } catch (SQLException | InexistentDatabaseEntityException | NoSignedInUserException e) {
-      ErrorDialogFactory.createErrorDialog(e, null, null);
-    }
+    EnumSet<Project.Status> allowedStatuses = EnumSet.copyOf(selectedStatuses);
+    EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses =
+        EnumSet.copyOf(selectedDeadlineStatuses);
+    projectListModel.loadFirstPage(
+        (lastLoadedProject, pageSize) ->
+            showFailure(
+                asyncManagers.getProjectsPage(
+                    assignedToUser,
+                    supervisedByUser,
+                    allowedStatuses,
+                    allowedDeadlineStatuses,
+                    sorterType,
+                    descending,
+                    lastLoadedProject,
+                    pageSize)));
   }
 
   @Override
@@ -3,6 +3,7 @@ package controller.project;
 import controller.CloseablePropertyChangeListener;
 import model.PropertyChangeObservable;
 import model.project.Project;
+import view.project.ProjectListDiff;
 import view.project.ProjectListModel;
 import view.project.ProjectTable;
 import view.project.single_project.ProjectFrame;
@@ -20,9 +21,16 @@ import java.util.List;
  * displayed changes after applying some filters on it, the ProjectTableController gets notified and
  * it updates the corresponding table.
  *
+ * <p>The projects are loaded page by page: when the user scrolls close to the last loaded row, the
+ * next page is requested from the ProjectListModel, and only its rows are appended to the table.
+ * When the list of projects is replaced, only the rows which changed are updated, so the selection
+ * and the scroll position of the table are kept.
+ *
  * @author Beata Keresztes, Bori Fazakas
  */
 public class ProjectTableController implements CloseablePropertyChangeListener {
+  // How many rows before the last loaded one the next page is requested.
+  private static final int PREFETCH_ROWS = 10;
 
   private ProjectListModel projectListModel;
   private ProjectTable projectTable;
@@ -36,12 +44,31 @@ public class ProjectTableController implements CloseablePropertyChangeListener {
   }
 
   public void initializeTableModel() {
-    projectTable.fillTableModel(projectListModel.getProjectList());
+    projectTable.getProjectTableModel().appendProjects(projectListModel.getProjectList());
+  }
+
+  private void updateTableModel(ProjectListDiff diff) {
+    projectTable.getProjectTableModel().applyDiff(diff);
+  }
+
+  private void appendNewRows() {
+    List<Project> projects = projectListModel.getProjectList();
+    projectTable
+        .getProjectTableModel()
+        .appendProjects(projects.subList(projectTable.getRowCount(), projects.size()));
   }
 
-  private void updateTableModel() {
-    projectTable.clearTableModel();
-    projectTable.fillTableModel(projectListModel.getProjectList());
+  /**
+   * Requests the next page of projects if the last visible row of the table is close to the last
+   * loaded row.
+   *
+   * @param lastVisibleRow is the index of the last row which is visible in the table.
+   */
+  public void loadNextPageIfNeeded(int lastVisibleRow) {
+    if (projectListModel.hasMorePages()
+        && lastVisibleRow >= projectListModel.getProjectList().size() - PREFETCH_ROWS) {
+      projectListModel.loadNextPage();
+    }
   }
 
   public void openProject(JFrame frame, int rowNr) {
@@ -52,14 +79,12 @@ public class ProjectTableController implements CloseablePropertyChangeListener {
     }
   }
 
-  public Project.Importance getProjectImportance(int projectIndex) {
-    return projectListModel.getProjectList().get(projectIndex).getImportance();
-  }
-
   @Override
   public void propertyChange(PropertyChangeEvent evt) {
     if (evt.getPropertyName().equals(ProjectListModel.PROJECT_LIST)) {
-      updateTableModel();
+      updateTableModel((ProjectListDiff) evt.getNewValue());
+    } else if (evt.getPropertyName().equals(ProjectListModel.PROJECT_PAGE)) {
+      appendNewRows();
     }
   }
 
@@ -1,11 +1,14 @@
 package controller.project.single_project;
 
+import controller.AsyncManagerFacade;
 import controller.CloseablePropertyChangeListener;
 import model.InexistentDatabaseEntityException;
 import model.PropertyChangeObservable;
 import model.UnauthorisedOperationException;
 import model.comment.Comment;
 import model.comment.CommentManager;
+import model.comment.CommentWithSender;
+import model.comment.events.CommentAddedEvent;
 import model.project.Project;
 import model.project.exceptions.InexistentProjectException;
 import model.team.exceptions.InexistentTeamException;
@@ -17,30 +20,42 @@ import view.project.single_project.ProjectCommentPanel;
 
 import java.beans.PropertyChangeEvent;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The ProjectCommentController manages the ProjectCommentPanel, displaying and updating the list of
  * comments.
  *
+ * <p>Only the latest page of comments is loaded when the panel is opened. The older comments are
+ * loaded page by page, on demand. The comments added later are appended to the loaded ones from the
+ * events of the CommentManager, without reading any comment again.
+ *
  * @author Beata Keresztes
  */
 public class ProjectCommentController implements CloseablePropertyChangeListener {
 
   private CommentManager commentManager;
-  private UserManager userManager;
+  private AsyncManagerFacade asyncManagers;
   private ProjectCommentPanel panel;
   private int projectId;
   public static final String LEAVE_COMMENT_MESSAGE = "Leave a comment";
+  public static final int COMMENT_PAGE_SIZE = 20;
+  private List<CommentWithSender> loadedComments = new ArrayList<>();
+  private boolean hasOlderComments = false;
+  // Incremented by each reload of the latest comments, so older pages requested before are dropped.
+  private int loadGeneration = 0;
+  private boolean loadingOlderComments = false;
   private List<PropertyChangeObservable> propertyChangeObservables;
 
   public ProjectCommentController(ProjectCommentPanel panel, Project project) {
     commentManager = CommentManager.getInstance();
+    asyncManagers = AsyncManagerFacade.getInstance();
     propertyChangeObservables = List.of(commentManager);
     this.setObservables();
-    userManager = UserManager.getInstance();
     this.panel = panel;
     try {
       this.projectId = project.getId();
@@ -51,27 +66,116 @@ public class ProjectCommentController implements CloseablePropertyChangeListener
 
   @Override
   public void propertyChange(PropertyChangeEvent evt) {
-    if (evt.getPropertyName().equals(CommentManager.ADD_COMMENT)) {
-      panel.updateCommentPanel();
+    if (evt instanceof CommentAddedEvent && ((CommentAddedEvent) evt).concernsProject(projectId)) {
+      panel.showAddedComments(appendAddedComments(((CommentAddedEvent) evt).getChanges().values()));
     }
   }
 
-  public List<Comment> getComments() {
-    try {
-      return commentManager.getOrderedCommentsOfProject(projectId);
-    } catch (SQLException sqlException) {
-      ErrorDialogFactory.createErrorDialog(sqlException, null, null);
+  /**
+   * Appends the added comments of the project to the loaded comments, unless they were already
+   * loaded. The comments are added by the signed-in user, so the name of their sender is the name
+   * of the current user.
+   *
+   * @return the appended comments, ordered by their date.
+   */
+  private List<CommentWithSender> appendAddedComments(Collection<Comment> addedComments) {
+    List<CommentWithSender> appendedComments = new ArrayList<>();
+    for (Comment comment : addedComments) {
+      if (comment.getProjectId() == projectId && isNewerThanLoadedComments(comment)) {
+        String senderName = UserManager.getInstance().getCurrentUser().get().getUsername();
+        CommentWithSender appendedComment = new CommentWithSender(comment, senderName);
+        loadedComments.add(appendedComment);
+        appendedComments.add(appendedComment);
+      }
     }
-    return null;
+    return appendedComments;
+  }
+
+  /**
+   * @return true if the comment is newer than the latest loaded comment, since the ids of the
+   *     comments increase with their date.
+   */
+  private boolean isNewerThanLoadedComments(Comment comment) {
+    return loadedComments.isEmpty()
+        || getId(comment) > getId(loadedComments.get(loadedComments.size() - 1).getComment());
   }
 
-  public String getSenderName(Comment comment) {
+  private static int getId(Comment comment) {
     try {
-      return Objects.requireNonNull(userManager.getUserById(comment.getSenderId())).getUsername();
-    } catch (SQLException sqlException) {
-      ErrorDialogFactory.createErrorDialog(sqlException, null, null);
+      return comment.getId();
+    } catch (InexistentDatabaseEntityException e) {
+      // only the comments read from the database or saved by the CommentManager are loaded
+      throw new IllegalStateException(e);
     }
-    return null;
+  }
+
+  /**
+   * Reloads the latest comments, at least as many as were loaded before, without blocking the Event
+   * Dispatch Thread. The comments appended meanwhile, which are newer than the reloaded ones, stay
+   * loaded after them.
+   *
+   * @return a future completed on the Event Dispatch Thread when the loaded comments are replaced.
+   *     If a newer reload was requested meanwhile, or the comments could not be loaded, the loaded
+   *     comments do not change.
+   */
+  public CompletableFuture<Void> loadLatestComments() {
+    int count = Math.max(COMMENT_PAGE_SIZE, loadedComments.size());
+    int generation = ++loadGeneration;
+    return asyncManagers
+        .getLatestCommentsOfProject(projectId, count)
+        .handle(
+            (latestComments, e) -> {
+              if (e != null) {
+                ErrorDialogFactory.createErrorDialog(AsyncManagerFacade.getFailure(e), null, null);
+              } else if (generation == loadGeneration) {
+                List<CommentWithSender> appendedComments = loadedComments;
+                loadedComments = new ArrayList<>(latestComments);
+                hasOlderComments = loadedComments.size() == count;
+                for (CommentWithSender appendedComment : appendedComments) {
+                  if (isNewerThanLoadedComments(appendedComment.getComment())) {
+                    loadedComments.add(appendedComment);
+                  }
+                }
+              }
+              return null;
+            });
+  }
+
+  /**
+   * Loads the page of comments which precede the oldest loaded comment, without blocking the Event
+   * Dispatch Thread.
+   *
+   * @return a future completed on the Event Dispatch Thread when the page is prepended to the
+   *     loaded comments.
+   */
+  public CompletableFuture<Void> loadOlderComments() {
+    if (!hasOlderComments || loadingOlderComments) {
+      return CompletableFuture.completedFuture(null);
+    }
+    int generation = loadGeneration;
+    loadingOlderComments = true;
+    return asyncManagers
+        .getOlderCommentsOfProject(projectId, loadedComments.get(0).getComment(), COMMENT_PAGE_SIZE)
+        .handle(
+            (olderComments, e) -> {
+              loadingOlderComments = false;
+              if (e != null) {
+                ErrorDialogFactory.createErrorDialog(AsyncManagerFacade.getFailure(e), null, null);
+              } else if (generation == loadGeneration) {
+                hasOlderComments = olderComments.size() == COMMENT_PAGE_SIZE;
+                loadedComments.addAll(0, olderComments);
+              }
+              return null;
+            });
+  }
+
+  /** @return the loaded comments with the names of their senders, ordered by their date. */
+  public List<CommentWithSender> getLoadedComments() {
+    return Collections.unmodifiableList(loadedComments);
+  }
+
+  public boolean hasOlderComments() {
+    return hasOlderComments;
   }
 
   private boolean isEmptyComment(String text) {
@@ -4,10 +4,12 @@ import controller.FrameController;
 import model.InexistentDatabaseEntityException;
 import model.project.Project;
 import model.project.ProjectManager;
+import model.project.events.ProjectChangeEvent;
 import model.project.exceptions.InexistentProjectException;
 import view.ErrorDialogFactory;
 
 import javax.swing.*;
+import java.beans.PropertyChangeEvent;
 import java.sql.SQLException;
 
 /**
@@ -35,6 +37,22 @@ public class ProjectController extends FrameController {
     return project;
   }
 
+  /**
+   * @return false if the event is a typed event of the ProjectManager about other projects than the
+   *     viewed one, so it can be ignored.
+   */
+  protected boolean concernsProject(PropertyChangeEvent event) {
+    if (!(event instanceof ProjectChangeEvent)) {
+      return true;
+    }
+    try {
+      return ((ProjectChangeEvent) event).concerns(project.getId());
+    } catch (InexistentDatabaseEntityException e) {
+      // the project cannot be told apart, so the view is updated as for any change
+      return true;
+    }
+  }
+
   protected void setProject() {
     try {
       project = projectManager.getProjectById(project.getId());
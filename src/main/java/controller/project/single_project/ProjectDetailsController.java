@@ -16,6 +16,7 @@ import model.user.User;
 import model.user.UserManager;
 import model.user.exceptions.InexistentUserException;
 import model.user.exceptions.NoSignedInUserException;
+import org.jetbrains.annotations.Nullable;
 import view.ErrorDialogFactory;
 import view.project.single_project.ProjectDetailsPanel;
 
@@ -25,6 +26,7 @@ import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ProjectDetailsController manages the ProjectDetails panel, being responsible for listing and
@@ -40,6 +42,7 @@ public class ProjectDetailsController extends ProjectController
   private ProjectManager projectManager;
   private ProjectDetailsPanel panel;
   private List<PropertyChangeObservable> propertyChangeObservables;
+  private @Nullable Map<Integer, User> projectUsers = null;
 
   /** Messages to confirm with the user the deletion of the project. */
   private static final String CONFIRM_DELETION_MESSAGE =
@@ -64,11 +67,15 @@ public class ProjectDetailsController extends ProjectController
 
   @Override
   public void propertyChange(PropertyChangeEvent evt) {
+    if (!concernsProject(evt)) {
+      return;
+    }
     if (evt.getPropertyName()
             .equals(ProjectManager.ProjectChangeablePropertyName.UPDATE_PROJECT.toString())
         || evt.getPropertyName()
             .equals(ProjectManager.ProjectChangeablePropertyName.SET_PROJECT_STATUS.toString())) {
       setProject();
+      projectUsers = null;
       panel.updatePanel();
     } else if (evt.getPropertyName()
         .equals(ProjectManager.ProjectChangeablePropertyName.DELETE_PROJECT.toString())) {
@@ -90,21 +97,25 @@ public class ProjectDetailsController extends ProjectController
   }
 
   public User getProjectAssignee() {
-    try {
-      return userManager.getUserById(project.getAssigneeId());
-    } catch (SQLException sqlException) {
-      ErrorDialogFactory.createErrorDialog(sqlException, null, null);
-    }
-    return null;
+    return getProjectUsers().get(project.getAssigneeId());
   }
 
   public User getProjectSupervisor() {
-    try {
-      return userManager.getUserById(project.getSupervisorId());
-    } catch (SQLException sqlException) {
-      ErrorDialogFactory.createErrorDialog(sqlException, null, null);
+    return getProjectUsers().get(project.getSupervisorId());
+  }
+
+  /** Resolves the assignee and the supervisor of the project together, once per project state. */
+  private Map<Integer, User> getProjectUsers() {
+    if (projectUsers == null) {
+      try {
+        projectUsers =
+            userManager.getUsersByIds(List.of(project.getAssigneeId(), project.getSupervisorId()));
+      } catch (SQLException sqlException) {
+        ErrorDialogFactory.createErrorDialog(sqlException, null, null);
+        return Collections.emptyMap();
+      }
     }
-    return null;
+    return projectUsers;
   }
 
   public String getProjectTitle() {
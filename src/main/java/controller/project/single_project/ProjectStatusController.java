@@ -182,6 +182,9 @@ public class ProjectStatusController extends ProjectController
   /** Updates the UI if the status, assignee or supervisor of the project have changed. */
   @Override
   public void propertyChange(PropertyChangeEvent propertyChangeEvent) {
+    if (!concernsProject(propertyChangeEvent)) {
+      return;
+    }
     if (propertyChangeEvent
             .getPropertyName()
             .equals(ProjectManager.ProjectChangeablePropertyName.SET_PROJECT_STATUS.toString())
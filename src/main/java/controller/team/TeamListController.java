@@ -1,12 +1,13 @@
 package controller.team;
 
+import controller.AsyncManagerFacade;
 import controller.CloseablePropertyChangeListener;
 import model.InexistentDatabaseEntityException;
 import model.PropertyChangeObservable;
 import model.team.Team;
 import model.team.TeamManager;
-import model.user.exceptions.*;
-import model.user.User;
+import model.team.TeamWithManager;
+import model.team.events.TeamRenamedEvent;
 import model.user.UserManager;
 import view.ErrorDialogFactory;
 import view.team.TeamListPanel;
@@ -14,11 +15,10 @@ import view.team.TeamViewModel;
 
 import java.awt.*;
 import java.beans.PropertyChangeEvent;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * TeamListController controls the actions related to TeamListPanel. It implements
@@ -30,6 +30,7 @@ import java.util.Objects;
 public class TeamListController implements CloseablePropertyChangeListener {
   TeamManager teamManager = TeamManager.getInstance();
   UserManager userManager = UserManager.getInstance();
+  AsyncManagerFacade asyncManagers = AsyncManagerFacade.getInstance();
 
   Frame parentFrame;
   TeamListPanel panel;
@@ -43,32 +44,40 @@ public class TeamListController implements CloseablePropertyChangeListener {
     this.setObservables();
   }
 
-  public List<TeamViewModel> getUsersTeams() {
+  /**
+   * Loads the teams of the current user without blocking the Event Dispatch Thread.
+   *
+   * @return the future view models of the teams, completed on the Event Dispatch Thread. If the
+   *     teams cannot be loaded, the error is shown and the list is empty.
+   */
+  public CompletableFuture<List<TeamViewModel>> getUsersTeams() {
+    return asyncManagers
+        .supply(() -> toTeamViewModels(teamManager.getTeamsWithManagerOfCurrentUser()))
+        .exceptionally(
+            e -> {
+              ErrorDialogFactory.createErrorDialog(
+                  AsyncManagerFacade.getFailure(e), parentFrame, "Your teams cannot be displayed.");
+              return new ArrayList<>();
+            });
+  }
+
+  private static List<TeamViewModel> toTeamViewModels(List<TeamWithManager> teamsWithManager)
+      throws InexistentDatabaseEntityException {
     List<TeamViewModel> teamsViewModels = new ArrayList<>();
-    try {
-      List<Team> usersTeams = teamManager.getTeamsOfCurrentUser();
-      for (Team team : usersTeams) {
-        User manager = userManager.getUserById(team.getManagerId());
-        teamsViewModels.add(
-            new TeamViewModel(
-                team.getId(), team.getName(), Objects.requireNonNull(manager).getUsername()));
-      }
-    } catch (SQLException | NoSignedInUserException | InexistentDatabaseEntityException e) {
-      e.printStackTrace();
-      ErrorDialogFactory.createErrorDialog(e, parentFrame, "Your teams cannot be displayed.");
-    } catch (NullPointerException e) {
-      e.printStackTrace();
-      ErrorDialogFactory.createErrorDialog(
-          new SQLException(), parentFrame, "Your teams cannot be displayed" + ".");
-      // NullPointerException occurs when manager is not found. This can be handled as if it were
-      // a database exception.
+    for (TeamWithManager teamWithManager : teamsWithManager) {
+      Team team = teamWithManager.getTeam();
+      teamsViewModels.add(
+          new TeamViewModel(team.getId(), team.getName(), teamWithManager.getManagerName()));
     }
     return teamsViewModels;
   }
 
   @Override
   public void propertyChange(PropertyChangeEvent propertyChangeEvent) {
-    if (propertyChangeEvent
+    if (propertyChangeEvent instanceof TeamRenamedEvent) {
+      // only the labels of the renamed teams change
+      panel.renameTeams(((TeamRenamedEvent) propertyChangeEvent).getChanges());
+    } else if (propertyChangeEvent
             .getPropertyName()
             .equals(TeamManager.ChangablePropertyName.CURRENT_USER_TEAM_MEMBERSHIPS.toString())
         || propertyChangeEvent
@@ -80,9 +89,6 @@ public class TeamListController implements CloseablePropertyChangeListener {
         || propertyChangeEvent
             .getPropertyName()
             .equals(TeamManager.ChangablePropertyName.CHANGED_TEAM_MANAGER.toString())
-        || propertyChangeEvent
-            .getPropertyName()
-            .equals(TeamManager.ChangablePropertyName.CHANGED_TEAM_NAME.toString())
         || propertyChangeEvent.getPropertyName().equals(UserManager.UPDATE_ACCOUNT_PROPERTY)) {
       panel.updateTeams();
     }
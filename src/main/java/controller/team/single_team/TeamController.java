@@ -3,12 +3,14 @@ package controller.team.single_team;
 import controller.FrameController;
 import model.InexistentDatabaseEntityException;
 import model.team.TeamManager;
+import model.team.events.TeamChangeEvent;
 import model.team.exceptions.InexistentTeamException;
 import model.user.UserManager;
 import view.ErrorDialogFactory;
 import view.project.CreateProjectFrame;
 
 import javax.swing.*;
+import java.beans.PropertyChangeEvent;
 import java.sql.SQLException;
 
 /**
@@ -57,6 +59,17 @@ public class TeamController extends FrameController {
     }
   }
 
+  /**
+   * @return false if the event is a typed event of the TeamManager about other teams than the
+   *     viewed one, so it can be ignored.
+   */
+  protected static boolean concernsTeam(PropertyChangeEvent event) {
+    if (event instanceof TeamChangeEvent) {
+      return ((TeamChangeEvent<?>) event).concerns(teamId);
+    }
+    return true;
+  }
+
   public boolean getManagerAccess() {
     return managerAccess;
   }
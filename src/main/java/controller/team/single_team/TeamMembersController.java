@@ -1,5 +1,6 @@
 package controller.team.single_team;
 
+import controller.AsyncManagerFacade;
 import controller.CloseablePropertyChangeListener;
 import model.InexistentDatabaseEntityException;
 import model.PropertyChangeObservable;
@@ -18,6 +19,7 @@ import java.beans.PropertyChangeEvent;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The TeamMembersController manages the TeamMembersPanel tab, displaying and updating the list of
@@ -30,6 +32,7 @@ public class TeamMembersController extends TeamController
 
   private TeamMembersPanel membersPanel;
   private ProjectManager projectManager;
+  private AsyncManagerFacade asyncManagers;
   private List<PropertyChangeObservable> propertyChangeObservables = List.of(teamManager);
 
   /** Messages to confirm the removal of a member from the team. */
@@ -42,11 +45,15 @@ public class TeamMembersController extends TeamController
     super(frame, teamId);
     this.membersPanel = membersPanel;
     projectManager = ProjectManager.getInstance();
+    asyncManagers = AsyncManagerFacade.getInstance();
     this.setObservables();
   }
 
   @Override
   public void propertyChange(PropertyChangeEvent evt) {
+    if (!concernsTeam(evt)) {
+      return;
+    }
     if (evt.getPropertyName().equals(TeamManager.ChangablePropertyName.ADDED_TEAM_MEMBER.toString())
         || evt.getPropertyName()
             .equals(TeamManager.ChangablePropertyName.REMOVED_TEAM_MEMBER.toString())) {
@@ -59,19 +66,21 @@ public class TeamMembersController extends TeamController
   }
 
   /**
-   * Get the members of the team. The string array contains at least one element, which is the
-   * manager of the team.
+   * Get the members of the team, without blocking the Event Dispatch Thread. The list contains at
+   * least one element, which is the manager of the team.
    *
-   * @return the members of the current team
+   * @return the future members of the current team, completed on the Event Dispatch Thread, or with
+   *     null if they could not be loaded.
    */
-  public List<User> getTeamMembers() {
-    try {
-      return teamManager.getMembersOfTeam(teamId);
-    } catch (SQLException sqlException) {
-      ErrorDialogFactory.createErrorDialog(
-          sqlException, frame, "The members could not be displayed.");
-    }
-    return null;
+  public CompletableFuture<List<User>> getTeamMembers() {
+    return asyncManagers
+        .getMembersOfTeam(teamId)
+        .exceptionally(
+            e -> {
+              ErrorDialogFactory.createErrorDialog(
+                  AsyncManagerFacade.getFailure(e), frame, "The members could not be displayed.");
+              return null;
+            });
   }
 
   public void addMember(String name) {
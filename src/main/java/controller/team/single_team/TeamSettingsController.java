@@ -75,6 +75,9 @@ public class TeamSettingsController extends TeamController
 
   @Override
   public void propertyChange(PropertyChangeEvent evt) {
+    if (!concernsTeam(evt)) {
+      return;
+    }
     if (evt.getPropertyName().equals(TeamManager.ChangablePropertyName.CHANGED_TEAM_NAME.toString())
         || evt.getPropertyName()
             .equals(TeamManager.ChangablePropertyName.CHANGED_TEAM_CODE.toString())
@@ -0,0 +1,151 @@
+package model;
+
+import javax.swing.*;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CoalescingEventDispatcher notifies the listeners of a manager about its changes, like a
+ * PropertyChangeSupport, but not inside the call which made the change. The events fired within a
+ * short window are collected, and the events of the same kind, that is with the same property name
+ * and of the same class, are merged into one, whose old value is the old value of the first event
+ * and whose new value is the new value of the last one. At the end of the window, each merged event
+ * is delivered once, on the Event Dispatch Thread, in the order in which the kinds were first
+ * fired. Typed events, which are EntityChangeEvents, are merged into one event of the same type,
+ * which contains the changes of all the merged events, so no changed entity is lost. Typed events
+ * of different classes are never merged, even if they have the same property name.
+ *
+ * <p>So a burst of changes, for example the status changes of several projects, refreshes each open
+ * view only once, and the listeners can update the Swing components directly.
+ *
+ * <p>Single changes which the listeners must see before the caller continues, like the update of
+ * the account of the current user, are fired with firePropertyChangeNow instead, which delivers
+ * them right away on the calling thread, like a PropertyChangeSupport.
+ */
+public class CoalescingEventDispatcher {
+  private final Object source;
+  private final PropertyChangeSupport support;
+  private final EventStatistics statistics;
+  private final Timer windowTimer;
+  // The events fired in the current window, keyed by their kind, that is the list of their property
+  // name and their class, in the order of their first firing. Guarded by this.
+  private final Map<List<Object>, PendingEvent> pendingEvents = new LinkedHashMap<>();
+
+  /** The merged events of the same kind, which were fired in the current window. */
+  private static class PendingEvent {
+    private PropertyChangeEvent event;
+    private int count = 1;
+
+    PendingEvent(PropertyChangeEvent event) {
+      this.event = event;
+    }
+
+    /** Merges the pending event with a later event of the same kind, so of the same class. */
+    void merge(PropertyChangeEvent laterEvent) {
+      if (event instanceof EntityChangeEvent) {
+        event = ((EntityChangeEvent<?>) event).mergeWith((EntityChangeEvent<?>) laterEvent);
+      } else {
+        event =
+            new PropertyChangeEvent(
+                event.getSource(),
+                event.getPropertyName(),
+                event.getOldValue(),
+                laterEvent.getNewValue());
+      }
+      count++;
+    }
+  }
+
+  /**
+   * @param source is the object which fires the events.
+   * @param windowMillis is how long the events are collected after the first one, in milliseconds.
+   * @param statistics is where the fired and coalesced events are counted.
+   */
+  public CoalescingEventDispatcher(Object source, int windowMillis, EventStatistics statistics) {
+    this.source = source;
+    this.support = new PropertyChangeSupport(source);
+    this.statistics = statistics;
+    this.windowTimer = new Timer(windowMillis, e -> deliverPendingEvents());
+    this.windowTimer.setRepeats(false);
+  }
+
+  public void addPropertyChangeListener(PropertyChangeListener listener) {
+    support.addPropertyChangeListener(listener);
+  }
+
+  public void removePropertyChangeListener(PropertyChangeListener listener) {
+    support.removePropertyChangeListener(listener);
+  }
+
+  /**
+   * Fires an event, which is delivered at the end of the current window, merged with the other
+   * events of the same kind. It can be called from any thread.
+   *
+   * @param propertyName is the kind of the event.
+   * @param oldValue is the value before the change.
+   * @param newValue is the value after the change.
+   */
+  public void firePropertyChange(String propertyName, Object oldValue, Object newValue) {
+    fireEvent(new PropertyChangeEvent(source, propertyName, oldValue, newValue));
+  }
+
+  /**
+   * Fires an event, which is delivered right away, on the calling thread, without being merged with
+   * any other event. The pending events fired earlier are still delivered at the end of their
+   * window.
+   *
+   * @param propertyName is the kind of the event.
+   * @param oldValue is the value before the change.
+   * @param newValue is the value after the change.
+   */
+  public void firePropertyChangeNow(String propertyName, Object oldValue, Object newValue) {
+    statistics.recordFired();
+    statistics.recordDelivered(0);
+    support.firePropertyChange(propertyName, oldValue, newValue);
+  }
+
+  /**
+   * Fires an event, which is delivered at the end of the current window, merged with the other
+   * events of the same kind. Typed events of the same class are merged with the changes of all of
+   * them. It can be called from any thread.
+   *
+   * @param event is the event to fire, whose source should be the source of this dispatcher.
+   */
+  public void fireEvent(PropertyChangeEvent event) {
+    boolean windowStarts;
+    synchronized (this) {
+      statistics.recordFired();
+      windowStarts = pendingEvents.isEmpty();
+      List<Object> eventKind = List.of(event.getPropertyName(), event.getClass());
+      PendingEvent pendingEvent = pendingEvents.get(eventKind);
+      if (pendingEvent == null) {
+        pendingEvents.put(eventKind, new PendingEvent(event));
+      } else {
+        pendingEvent.merge(event);
+        statistics.recordCoalesced();
+      }
+    }
+    if (windowStarts) {
+      windowTimer.start();
+    }
+  }
+
+  /** Called on the Event Dispatch Thread at the end of the window. */
+  private void deliverPendingEvents() {
+    List<PendingEvent> events;
+    synchronized (this) {
+      events = new ArrayList<>(pendingEvents.values());
+      pendingEvents.clear();
+    }
+    for (PendingEvent pendingEvent : events) {
+      int listenerCount = support.getPropertyChangeListeners().length;
+      statistics.recordDelivered((long) (pendingEvent.count - 1) * listenerCount);
+      support.firePropertyChange(pendingEvent.event);
+    }
+  }
+}
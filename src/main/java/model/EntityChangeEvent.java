@@ -0,0 +1,81 @@
+package model;
+
+import java.beans.PropertyChangeEvent;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * EntityChangeEvent is a typed change event of a manager, which tells the listeners which entities
+ * changed and how, so that they can ignore the changes of the entities they do not display, and
+ * patch the displayed ones without querying them again. Its property name is the same as the name
+ * of the untyped event of the same kind, so the listeners which only check the name keep working.
+ *
+ * <p>The changes are keyed by the id of the changed entity. Two events of the same kind are merged
+ * by the CoalescingEventDispatcher into one, which contains the changes of both entities, or the
+ * merged change of an entity changed by both.
+ *
+ * <p>The events are immutable. The new value of an event is the map of its changes, and its old
+ * value is null.
+ *
+ * @param <T> is the type of the change of an entity.
+ */
+public abstract class EntityChangeEvent<T> extends PropertyChangeEvent {
+  private final Map<Integer, T> changes;
+
+  @SuppressWarnings("unchecked")
+  protected EntityChangeEvent(Object source, String propertyName, Map<Integer, T> changes) {
+    super(source, propertyName, null, Collections.unmodifiableMap(new LinkedHashMap<>(changes)));
+    this.changes = (Map<Integer, T>) getNewValue();
+  }
+
+  /** @return the ids of the changed entities, in the order of their first change. */
+  public Set<Integer> getIds() {
+    return changes.keySet();
+  }
+
+  /** @return true if the entity with the given id is one of the changed entities. */
+  public boolean concerns(int id) {
+    return changes.containsKey(id);
+  }
+
+  /** @return the change of the entity with the given id, or null if it did not change. */
+  public T getChange(int id) {
+    return changes.get(id);
+  }
+
+  /** @return the changes, keyed by the ids of the changed entities. */
+  public Map<Integer, T> getChanges() {
+    return changes;
+  }
+
+  /**
+   * Merges this event with a later event of the same kind.
+   *
+   * @param later is the later event, which must be of the same class as this one.
+   * @return a new event of the same class, with the changes of both events.
+   */
+  @SuppressWarnings("unchecked")
+  public EntityChangeEvent<T> mergeWith(EntityChangeEvent<?> later) {
+    if (later.getClass() != getClass()) {
+      throw new IllegalArgumentException(
+          "A " + getClass().getSimpleName() + " cannot be merged with a " + later.getClass());
+    }
+    Map<Integer, T> mergedChanges = new LinkedHashMap<>(changes);
+    for (Map.Entry<Integer, ?> change : later.changes.entrySet()) {
+      mergedChanges.merge(change.getKey(), (T) change.getValue(), this::mergeChanges);
+    }
+    return withChanges(mergedChanges);
+  }
+
+  /**
+   * Merges two changes of the same entity. By default, the later change replaces the earlier one.
+   */
+  protected T mergeChanges(T earlierChange, T laterChange) {
+    return laterChange;
+  }
+
+  /** @return a new event of the same class and source, with the given changes. */
+  protected abstract EntityChangeEvent<T> withChanges(Map<Integer, T> changes);
+}
@@ -0,0 +1,55 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * EventStatistics counts the change events fired by the managers, how many of them were coalesced
+ * with an earlier event of the same kind, and how many listener notifications, each of which
+ * usually refreshes a part of the view, were saved by coalescing them. It is thread-safe.
+ */
+public class EventStatistics {
+  private final AtomicLong firedEvents = new AtomicLong();
+  private final AtomicLong coalescedEvents = new AtomicLong();
+  private final AtomicLong deliveredEvents = new AtomicLong();
+  private final AtomicLong savedRefreshes = new AtomicLong();
+
+  void recordFired() {
+    firedEvents.incrementAndGet();
+  }
+
+  void recordCoalesced() {
+    coalescedEvents.incrementAndGet();
+  }
+
+  void recordDelivered(long savedRefreshCount) {
+    deliveredEvents.incrementAndGet();
+    savedRefreshes.addAndGet(savedRefreshCount);
+  }
+
+  /** @return the number of events fired by the managers. */
+  public long getFiredEvents() {
+    return firedEvents.get();
+  }
+
+  /** @return the number of events merged into an earlier pending event of the same kind. */
+  public long getCoalescedEvents() {
+    return coalescedEvents.get();
+  }
+
+  /** @return the number of events delivered to the listeners, after coalescing. */
+  public long getDeliveredEvents() {
+    return deliveredEvents.get();
+  }
+
+  /** @return the number of listener notifications which were not made thanks to coalescing. */
+  public long getSavedRefreshes() {
+    return savedRefreshes.get();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "events fired: %d, coalesced: %d, delivered: %d; refreshes saved: %d",
+        getFiredEvents(), getCoalescedEvents(), getDeliveredEvents(), getSavedRefreshes());
+  }
+}
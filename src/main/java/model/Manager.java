@@ -2,10 +2,12 @@ package model;
 
 import model.comment.repository.CommentRepository;
 import model.comment.repository.impl.SqliteCommentRepository;
+import model.database.SqliteConnectionPool;
+import model.database.UnitOfWork;
 import model.project.Project;
 import model.project.repository.ProjectRepository;
 import model.project.exceptions.*;
-import model.project.repository.impl.SqliteProjectRepository;
+import model.project.repository.impl.CachingProjectRepository;
 import model.team.Team;
 import model.team.repository.TeamRepository;
 import model.team.repository.impl.SqliteTeamRepository;
@@ -13,11 +15,10 @@ import model.user.exceptions.*;
 import model.user.User;
 import model.user.UserManager;
 import model.user.repository.UserRepository;
-import model.user.repository.impl.SqliteUserRepository;
+import model.user.repository.impl.CachingUserRepository;
 import model.team.exceptions.*;
 
 import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
 import java.sql.SQLException;
 import java.util.Optional;
 
@@ -27,19 +28,43 @@ import java.util.Optional;
  * data, all of which throw the necessary exceptions in case of invalid data.
  *
  * <p>It implements PropertyChangeObservable, so it is able to notify the controller about changes
- * in data that should be reflected in the view.
+ * in data that should be reflected in the view. The notifications of the frequent changes of teams,
+ * projects and comments are coalesced: the changes of the same kind made within EVENT_WINDOW_MILLIS
+ * are announced once, on the Event Dispatch Thread. The single changes of the current user are
+ * announced right away.
  *
  * @author Bori Fazakas
  */
 public abstract class Manager implements PropertyChangeObservable {
-  protected static ProjectRepository projectRepository = SqliteProjectRepository.getInstance();
+  protected static ProjectRepository projectRepository = CachingProjectRepository.getInstance();
   protected static TeamRepository teamRepository = SqliteTeamRepository.getInstance();
-  protected static UserRepository userRepository = SqliteUserRepository.getInstance();
+  protected static UserRepository userRepository = CachingUserRepository.getInstance();
   protected static CommentRepository commentRepository = SqliteCommentRepository.getInstance();
 
-  protected PropertyChangeSupport support = new PropertyChangeSupport(this);
-  protected final int OLD_VALUE = 1; // dummy data
-  protected final int NEW_VALUE = 2; // dummy data, but it must be different from OLD_VALUE
+  /** How long the change events of a manager are collected before they are delivered. */
+  public static final int EVENT_WINDOW_MILLIS = 50;
+
+  private static final EventStatistics eventStatistics = new EventStatistics();
+
+  protected CoalescingEventDispatcher support =
+      new CoalescingEventDispatcher(this, EVENT_WINDOW_MILLIS, eventStatistics);
+
+  /**
+   * Opens a unit of work, which groups the repository calls made on the current thread until it is
+   * closed into a single transaction. It must be used in a try-with-resources block, and committed
+   * at its end, otherwise all the changes made in it are rolled back.
+   *
+   * @return the unit of work.
+   * @throws SQLException if the transaction could not be started.
+   */
+  protected UnitOfWork beginUnitOfWork() throws SQLException {
+    return SqliteConnectionPool.getInstance().beginUnitOfWork();
+  }
+
+  /** @return the counters of the change events of all the managers. */
+  public static EventStatistics getEventStatistics() {
+    return eventStatistics;
+  }
 
   public void addPropertyChangeListener(PropertyChangeListener pcl) {
     support.addPropertyChangeListener(pcl);
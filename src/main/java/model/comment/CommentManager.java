@@ -3,6 +3,7 @@ package model.comment;
 import model.InexistentDatabaseEntityException;
 import model.Manager;
 import model.UnauthorisedOperationException;
+import model.comment.events.CommentAddedEvent;
 import model.project.Project;
 import model.project.exceptions.InexistentProjectException;
 import model.team.Team;
@@ -12,7 +13,6 @@ import model.user.exceptions.NoSignedInUserException;
 
 import java.sql.SQLException;
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -61,20 +61,51 @@ public class CommentManager extends Manager {
     }
     Comment.SavableComment comment =
         new Comment.SavableComment(text, projectId, currentUser.getId(), LocalDateTime.now());
-    commentRepository.saveComment(comment);
-    support.firePropertyChange(ADD_COMMENT, OLD_VALUE, NEW_VALUE);
+    Comment savedComment = commentRepository.saveComment(comment);
+    support.fireEvent(new CommentAddedEvent(this, savedComment));
   }
 
   /**
    * Finds and returns from the database a list of all comments belonging to a a project.
    *
    * @param projectId is the id of the project whose comments are listed.
-   * @return a list of all comments belonging to a a project.
+   * @return a list of all comments belonging to a a project, ordered by their date.
    * @throws SQLException if the operation could not be performed in the database.
    */
   public List<Comment> getOrderedCommentsOfProject(int projectId) throws SQLException {
-    List<Comment> comments = commentRepository.getCommentsOfProject(projectId);
-    comments.sort(Comparator.comparing(Comment::getDateTime));
-    return comments;
+    return commentRepository.getCommentsOfProject(projectId);
+  }
+
+  /**
+   * Returns the latest comments of a project with the names of their senders, so they can be
+   * displayed without loading its whole history.
+   *
+   * @param projectId is the id of the project whose comments are listed.
+   * @param count is the maximal number of returned comments.
+   * @return the count newest comments of the project, ordered by their date. If there are fewer
+   *     than count, the project has no other comments.
+   * @throws SQLException if the operation could not be performed in the database.
+   */
+  public List<CommentWithSender> getLatestCommentsOfProject(int projectId, int count)
+      throws SQLException {
+    return commentRepository.getLatestCommentsOfProject(projectId, count);
+  }
+
+  /**
+   * Returns the comments of a project which were sent before the oldest comment loaded so far, with
+   * the names of their senders.
+   *
+   * @param projectId is the id of the project whose comments are listed.
+   * @param firstLoadedComment is the oldest comment which was already loaded.
+   * @param count is the maximal number of returned comments.
+   * @return the count newest comments preceding firstLoadedComment, ordered by their date. If there
+   *     are fewer than count, the project has no older comments.
+   * @throws SQLException if the operation could not be performed in the database.
+   * @throws InexistentDatabaseEntityException should never occur.
+   */
+  public List<CommentWithSender> getOlderCommentsOfProject(
+      int projectId, Comment firstLoadedComment, int count)
+      throws SQLException, InexistentDatabaseEntityException {
+    return commentRepository.getCommentsOfProjectBefore(projectId, firstLoadedComment, count);
   }
 }
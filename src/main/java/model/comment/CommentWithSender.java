@@ -0,0 +1,24 @@
+package model.comment;
+
+/**
+ * CommentWithSender is a read model of a comment, which also holds the name of its sender, read
+ * together with the comment, so a list of comments can be displayed without looking up each sender
+ * separately. Immutable.
+ */
+public class CommentWithSender {
+  private final Comment comment;
+  private final String senderName;
+
+  public CommentWithSender(Comment comment, String senderName) {
+    this.comment = comment;
+    this.senderName = senderName;
+  }
+
+  public Comment getComment() {
+    return comment;
+  }
+
+  public String getSenderName() {
+    return senderName;
+  }
+}
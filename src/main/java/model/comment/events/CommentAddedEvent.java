@@ -0,0 +1,33 @@
+package model.comment.events;
+
+import model.EntityChangeEvent;
+import model.InexistentDatabaseEntityException;
+import model.comment.Comment;
+import model.comment.CommentManager;
+
+import java.util.Map;
+
+/**
+ * CommentAddedEvent is fired by the CommentManager when a comment is added to a project. The
+ * changes are keyed by the id of the comment, and the change of a comment is the saved comment.
+ */
+public class CommentAddedEvent extends EntityChangeEvent<Comment> {
+  public CommentAddedEvent(Object source, Comment comment)
+      throws InexistentDatabaseEntityException {
+    this(source, Map.of(comment.getId(), comment));
+  }
+
+  private CommentAddedEvent(Object source, Map<Integer, Comment> changes) {
+    super(source, CommentManager.ADD_COMMENT, changes);
+  }
+
+  /** @return true if one of the added comments belongs to the project with projectId. */
+  public boolean concernsProject(int projectId) {
+    return getChanges().values().stream().anyMatch(comment -> comment.getProjectId() == projectId);
+  }
+
+  @Override
+  protected CommentAddedEvent withChanges(Map<Integer, Comment> changes) {
+    return new CommentAddedEvent(getSource(), changes);
+  }
+}
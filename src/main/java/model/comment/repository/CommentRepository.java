@@ -1,6 +1,9 @@
 package model.comment.repository;
 
+import model.InexistentDatabaseEntityException;
 import model.comment.Comment;
+import model.comment.CommentWithSender;
+import model.database.RowVisitor;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -16,19 +19,59 @@ public interface CommentRepository {
    * Saves a new comment in the database.
    *
    * @param comment is the new comment to save.
+   * @return the newly saved comment, with its id in the database.
    * @throws SQLException if the operation could not be performed in the database.
    */
-  void saveComment(Comment.SavableComment comment) throws SQLException;
+  Comment saveComment(Comment.SavableComment comment) throws SQLException;
 
   /**
-   * Returns all the comments attached to a given project.
+   * Returns all the comments attached to a given project, ordered by their date.
    *
    * @param projectId is the id of the project whose comments are returned.
-   * @return a list of all comments belonging to the given project.
+   * @return a list of all comments belonging to the given project, from the oldest to the newest.
    * @throws SQLException if the operation could not be performed in the database.
    */
   List<Comment> getCommentsOfProject(int projectId) throws SQLException;
 
+  /**
+   * Returns the latest comments attached to a given project, together with the names of their
+   * senders, with a single query.
+   *
+   * @param projectId is the id of the project whose comments are returned.
+   * @param count is the maximal number of returned comments.
+   * @return the count newest comments of the project, from the oldest to the newest. If there are
+   *     fewer than count, the project has no other comments.
+   * @throws SQLException if the operation could not be performed in the database.
+   */
+  List<CommentWithSender> getLatestCommentsOfProject(int projectId, int count) throws SQLException;
+
+  /**
+   * Returns the comments attached to a given project which precede a given comment, in the order of
+   * their date and then their id, together with the names of their senders, with a single query.
+   *
+   * @param projectId is the id of the project whose comments are returned.
+   * @param firstLoadedComment is the oldest comment which was already loaded.
+   * @param count is the maximal number of returned comments.
+   * @return the count newest comments preceding firstLoadedComment, from the oldest to the newest.
+   *     If there are fewer than count, the project has no older comments.
+   * @throws SQLException if the operation could not be performed in the database.
+   * @throws InexistentDatabaseEntityException if firstLoadedComment has no id.
+   */
+  List<CommentWithSender> getCommentsOfProjectBefore(
+      int projectId, Comment firstLoadedComment, int count)
+      throws SQLException, InexistentDatabaseEntityException;
+
+  /**
+   * Passes the comments attached to a given project to the visitor one by one, in the order of
+   * their date, while they are read from the database, without collecting them in a list.
+   *
+   * @param projectId is the id of the project whose comments are visited.
+   * @param visitor receives the comments, and it can stop the reading by returning false.
+   * @throws SQLException if the operation could not be performed in the database, or the visitor
+   *     failed.
+   */
+  void visitCommentsOfProject(int projectId, RowVisitor<Comment> visitor) throws SQLException;
+
   /**
    * Deletes all the comments which belong to a given project.
    *
@@ -36,4 +79,12 @@ public interface CommentRepository {
    * @throws SQLException if the operation could not be performed in the database.
    */
   void deleteAllCommentsOfProject(int projectId) throws SQLException;
+
+  /**
+   * Deletes all the comments which belong to any project of a given team, with a single statement.
+   *
+   * @param teamId is the id of the team whose projects' comments are deleted.
+   * @throws SQLException if the operation could not be performed in the database.
+   */
+  void deleteAllCommentsOfTeam(int teamId) throws SQLException;
 }
@@ -1,15 +1,19 @@
 package model.comment.repository.impl;
 
+import model.InexistentDatabaseEntityException;
 import model.comment.Comment;
+import model.comment.CommentWithSender;
 import model.comment.repository.CommentRepository;
-import model.database.SqliteDatabaseConnectionFactory;
+import model.database.ConnectionLease;
+import model.database.RowVisitor;
+import model.database.SqliteConnectionPool;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -21,6 +25,8 @@ import java.util.List;
 public class SqliteCommentRepository implements CommentRepository {
   protected static SqliteCommentRepository instance;
 
+  private final SqliteConnectionPool connectionPool = SqliteConnectionPool.getInstance();
+
   private SqliteCommentRepository() {}
 
   /** Implemented with the singleton pattern. */
@@ -35,52 +41,140 @@ public class SqliteCommentRepository implements CommentRepository {
   private static final String SAVE_COMMENT_STATEMENT =
       "INSERT INTO Comment (CommentText, ProjectId, SenderId, DateTime) VALUES (?, ?, ?, ?)";
 
-  // Get comments of a project.
+  // Get comments of a project, in the order of Comment_ProjectId_DateTime_index.
   private static final String GET_COMMENTS_OF_PROJECT_STATEMENT =
-      "Select * FROM Comment WHERE projectId = ?";
+      "SELECT CommentId, CommentText, ProjectId, SenderId, DateTime FROM Comment "
+          + "WHERE ProjectId = ? ORDER BY DateTime, CommentId";
+
+  // Get the latest comments of a project with the names of their senders, from the newest one
+  // backwards.
+  private static final String GET_LATEST_COMMENTS_OF_PROJECT_STATEMENT =
+      "SELECT c.CommentId, c.CommentText, c.ProjectId, c.SenderId, c.DateTime, "
+          + "u.UserName AS SenderName FROM Comment c JOIN User u ON u.UserId = c.SenderId "
+          + "WHERE c.ProjectId = ? ORDER BY c.DateTime DESC, c.CommentId DESC LIMIT ?";
+
+  // Get the comments of a project which precede a given (DateTime, CommentId) with the names of
+  // their senders, backwards.
+  private static final String GET_COMMENTS_OF_PROJECT_BEFORE_STATEMENT =
+      "SELECT c.CommentId, c.CommentText, c.ProjectId, c.SenderId, c.DateTime, "
+          + "u.UserName AS SenderName FROM Comment c JOIN User u ON u.UserId = c.SenderId "
+          + "WHERE c.ProjectId = ? AND (c.DateTime, c.CommentId) < (?, ?) "
+          + "ORDER BY c.DateTime DESC, c.CommentId DESC LIMIT ?";
 
   // Delete all comments of a project.
   private static final String DELETE_COMMENTS_OF_PROJECT_STATEMENT =
       "DELETE FROM Comment WHERE projectId = ?";
 
+  // Delete all comments of all projects of a team.
+  private static final String DELETE_COMMENTS_OF_TEAM_STATEMENT =
+      "DELETE FROM Comment WHERE ProjectId IN (SELECT ProjectId FROM Project WHERE TeamId = ?)";
+
   @Override
-  public void saveComment(Comment.SavableComment comment) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement saveCommentSt = c.prepareStatement(SAVE_COMMENT_STATEMENT)) {
+  public Comment saveComment(Comment.SavableComment comment) throws SQLException {
+    try (ConnectionLease lease = connectionPool.leaseWriter()) {
+      PreparedStatement saveCommentSt = lease.prepareStatement(SAVE_COMMENT_STATEMENT);
       saveCommentSt.setString(1, comment.getText());
       saveCommentSt.setInt(2, comment.getProjectId());
       saveCommentSt.setInt(3, comment.getSenderId());
       saveCommentSt.setString(4, comment.getDateTime().toString());
-      saveCommentSt.executeUpdate();
+      int commentId = lease.executeInsert(saveCommentSt);
+      return new Comment(
+          commentId,
+          comment.getText(),
+          comment.getProjectId(),
+          comment.getSenderId(),
+          comment.getDateTime());
     }
   }
 
   @Override
   public List<Comment> getCommentsOfProject(int projectId) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement getCommentsOfProjectSt =
-            c.prepareStatement(GET_COMMENTS_OF_PROJECT_STATEMENT)) {
+    List<Comment> commentsOfProject = new ArrayList<>();
+    visitCommentsOfProject(projectId, commentsOfProject::add);
+    return commentsOfProject;
+  }
+
+  @Override
+  public List<CommentWithSender> getLatestCommentsOfProject(int projectId, int count)
+      throws SQLException {
+    try (ConnectionLease lease = connectionPool.leaseReader()) {
+      PreparedStatement getLatestCommentsSt =
+          lease.prepareStatement(GET_LATEST_COMMENTS_OF_PROJECT_STATEMENT);
+      getLatestCommentsSt.setInt(1, projectId);
+      getLatestCommentsSt.setInt(2, count);
+      return getCommentsFromNewestToOldest(getLatestCommentsSt, count);
+    }
+  }
+
+  @Override
+  public List<CommentWithSender> getCommentsOfProjectBefore(
+      int projectId, Comment firstLoadedComment, int count)
+      throws SQLException, InexistentDatabaseEntityException {
+    try (ConnectionLease lease = connectionPool.leaseReader()) {
+      PreparedStatement getCommentsBeforeSt =
+          lease.prepareStatement(GET_COMMENTS_OF_PROJECT_BEFORE_STATEMENT);
+      getCommentsBeforeSt.setInt(1, projectId);
+      getCommentsBeforeSt.setString(2, firstLoadedComment.getDateTime().toString());
+      getCommentsBeforeSt.setInt(3, firstLoadedComment.getId());
+      getCommentsBeforeSt.setInt(4, count);
+      return getCommentsFromNewestToOldest(getCommentsBeforeSt, count);
+    }
+  }
+
+  /**
+   * Executes a query returning comments with the names of their senders from the newest backwards,
+   * and returns them in order.
+   */
+  private static List<CommentWithSender> getCommentsFromNewestToOldest(
+      PreparedStatement query, int expectedCount) throws SQLException {
+    try (ResultSet result = query.executeQuery()) {
+      List<CommentWithSender> comments = new ArrayList<>(expectedCount);
+      while (result.next()) {
+        comments.add(
+            new CommentWithSender(getCommentFromResult(result), result.getString("SenderName")));
+      }
+      Collections.reverse(comments);
+      return comments;
+    }
+  }
+
+  @Override
+  public void visitCommentsOfProject(int projectId, RowVisitor<Comment> visitor)
+      throws SQLException {
+    try (ConnectionLease lease = connectionPool.leaseReader()) {
+      PreparedStatement getCommentsOfProjectSt =
+          lease.prepareStatement(GET_COMMENTS_OF_PROJECT_STATEMENT);
       getCommentsOfProjectSt.setInt(1, projectId);
       try (ResultSet result = getCommentsOfProjectSt.executeQuery()) {
-        List<Comment> commentsOfProject = new ArrayList<>();
         while (result.next()) {
-          commentsOfProject.add(getCommentFromResult(result));
+          if (!visitor.visit(getCommentFromResult(result))) {
+            return;
+          }
         }
-        return commentsOfProject;
       }
     }
   }
 
   @Override
   public void deleteAllCommentsOfProject(int projectId) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement deleteCommentsOfProjectSt =
-            c.prepareStatement(DELETE_COMMENTS_OF_PROJECT_STATEMENT)) {
+    try (ConnectionLease lease = connectionPool.leaseWriter()) {
+      PreparedStatement deleteCommentsOfProjectSt =
+          lease.prepareStatement(DELETE_COMMENTS_OF_PROJECT_STATEMENT);
       deleteCommentsOfProjectSt.setInt(1, projectId);
       deleteCommentsOfProjectSt.executeUpdate();
     }
   }
 
+  @Override
+  public void deleteAllCommentsOfTeam(int teamId) throws SQLException {
+    try (ConnectionLease lease = connectionPool.leaseWriter()) {
+      PreparedStatement deleteCommentsOfTeamSt =
+          lease.prepareStatement(DELETE_COMMENTS_OF_TEAM_STATEMENT);
+      deleteCommentsOfTeamSt.setInt(1, teamId);
+      deleteCommentsOfTeamSt.executeUpdate();
+    }
+  }
+
   private static Comment getCommentFromResult(ResultSet result) throws SQLException {
     int id = result.getInt("CommentId");
     String text = result.getString("CommentText");
@@ -0,0 +1,69 @@
+package model.database;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CacheStatistics counts the hits, misses, evictions and invalidations of a cache. It is
+ * thread-safe, so it can be shared by several caches whose statistics are reported together.
+ */
+public class CacheStatistics {
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public void recordHit() {
+    hits.incrementAndGet();
+  }
+
+  public void recordMiss() {
+    misses.incrementAndGet();
+  }
+
+  public void recordHits(int count) {
+    hits.addAndGet(count);
+  }
+
+  public void recordMisses(int count) {
+    misses.addAndGet(count);
+  }
+
+  public void recordEviction() {
+    evictions.incrementAndGet();
+  }
+
+  public void recordInvalidations(int count) {
+    invalidations.addAndGet(count);
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public long getEvictions() {
+    return evictions.get();
+  }
+
+  /** @return the number of entries which were removed because their data changed. */
+  public long getInvalidations() {
+    return invalidations.get();
+  }
+
+  /** @return the ratio of the lookups which were served from the cache. */
+  public double getHitRatio() {
+    long hitCount = hits.get();
+    long lookups = hitCount + misses.get();
+    return lookups == 0 ? 0 : (double) hitCount / lookups;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "hits: %d, misses: %d (hit ratio %.1f%%), evictions: %d, invalidations: %d",
+        getHits(), getMisses(), getHitRatio() * 100, getEvictions(), getInvalidations());
+  }
+}
@@ -0,0 +1,71 @@
+package model.database;
+
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * CancellableQueries groups the queries made on a thread from its beginning until it is closed, so
+ * they can be cancelled from another thread when their results are not needed anymore. Cancelling
+ * interrupts the query which is running on a read-only connection leased by the group, through
+ * Statement.cancel, and makes the following leases of the group fail, so the remaining queries are
+ * not started at all.
+ *
+ * <p>Remark that only the read-only leases can be cancelled: the statements of a unit of work and
+ * the writes always run to their end.
+ *
+ * <p>It should always be used in a try-with-resources block on the thread which runs the queries.
+ */
+public class CancellableQueries implements AutoCloseable {
+  private final Runnable onClose;
+  private final Set<ConnectionLease> activeLeases = new HashSet<>(); // guarded by this
+  private boolean cancelled = false; // guarded by this
+
+  /** @param onClose is run when the group is closed, to detach it from its thread. */
+  CancellableQueries(Runnable onClose) {
+    this.onClose = onClose;
+  }
+
+  /**
+   * Interrupts the running query of the group, and prevents its following queries. It can be called
+   * from any thread, and more than once.
+   */
+  public synchronized void cancel() {
+    cancelled = true;
+    for (ConnectionLease lease : activeLeases) {
+      lease.cancelStatement();
+    }
+  }
+
+  public synchronized boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * Adds a lease to the group, so its statements are cancelled with the group.
+   *
+   * @throws SQLException if the group was already cancelled.
+   */
+  synchronized void register(ConnectionLease lease) throws SQLException {
+    if (cancelled) {
+      throw new SQLException("The query was cancelled");
+    }
+    activeLeases.add(lease);
+  }
+
+  /**
+   * Removes a lease from the group before its connection is released, so a cancellation can never
+   * interrupt the query of the next holder of the connection.
+   */
+  synchronized void unregister(ConnectionLease lease) {
+    activeLeases.remove(lease);
+  }
+
+  /**
+   * Detaches the group from its thread. The following queries of the thread are not cancellable.
+   */
+  @Override
+  public void close() {
+    onClose.run();
+  }
+}
@@ -0,0 +1,188 @@
+package model.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ConnectionGroup is a bounded set of interchangeable connections of the SqliteConnectionPool, all
+ * opened with the same configuration: either the read-only connections or the single writer
+ * connection. It hands out leases of its idle connections, opening new ones lazily up to its size,
+ * and keeps the acquisition statistics of the group.
+ */
+class ConnectionGroup {
+  /** The maximal time a repository waits for a free connection before giving up. */
+  private static final long ACQUIRE_TIMEOUT_MILLIS = 10_000;
+
+  /** The maximal number of prepared statements cached for each connection. */
+  private static final int STATEMENT_CACHE_SIZE = 64;
+
+  private final String name;
+  private final int size;
+  private final StorageMode storageMode;
+  private final boolean readOnly;
+  private final CacheStatistics statementCacheStatistics;
+
+  private final Semaphore permits;
+  private final Deque<PooledConnection> idleConnections = new ArrayDeque<>(); // guarded by this
+  private int openConnections = 0; // guarded by this
+
+  private final AtomicInteger leasedConnections = new AtomicInteger();
+  private final AtomicInteger peakLeasedConnections = new AtomicInteger();
+  private final AtomicLong acquisitions = new AtomicLong();
+  private final AtomicLong saturatedAcquisitions = new AtomicLong();
+  private final AtomicLong timedOutAcquisitions = new AtomicLong();
+  private final AtomicLong totalAcquireNanos = new AtomicLong();
+  private final AtomicLong maxAcquireNanos = new AtomicLong();
+
+  ConnectionGroup(
+      String name,
+      int size,
+      StorageMode storageMode,
+      boolean readOnly,
+      CacheStatistics statementCacheStatistics) {
+    this.name = name;
+    this.size = size;
+    this.storageMode = storageMode;
+    this.readOnly = readOnly;
+    this.statementCacheStatistics = statementCacheStatistics;
+    // fair, so that the requesters get the connections in the order of their requests
+    this.permits = new Semaphore(size, true);
+  }
+
+  /**
+   * Leases a connection, waiting for one to be released if all of them are in use.
+   *
+   * @throws SQLException if no connection became available in time, or a new connection could not
+   *     be opened.
+   */
+  ConnectionLease lease() throws SQLException {
+    long start = System.nanoTime();
+    if (!permits.tryAcquire()) {
+      saturatedAcquisitions.incrementAndGet();
+      acquirePermit();
+    }
+    try {
+      PooledConnection connection = takeIdleConnection();
+      recordAcquisition(System.nanoTime() - start);
+      return new ConnectionLease(this, connection);
+    } catch (SQLException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Called by the lease when it is closed. The connection is reset to autocommit mode and becomes
+   * idle, or it is discarded if it is not usable anymore.
+   */
+  void release(PooledConnection pooledConnection) {
+    try {
+      Connection connection = pooledConnection.getConnection();
+      if (connection.isClosed()) {
+        discard(pooledConnection);
+      } else {
+        if (!connection.getAutoCommit()) {
+          connection.rollback();
+          connection.setAutoCommit(true);
+        }
+        synchronized (this) {
+          idleConnections.push(pooledConnection);
+        }
+      }
+    } catch (SQLException e) {
+      discard(pooledConnection);
+    } finally {
+      leasedConnections.decrementAndGet();
+      permits.release();
+    }
+  }
+
+  int getSize() {
+    return size;
+  }
+
+  PoolStatistics getStatistics() {
+    int open;
+    synchronized (this) {
+      open = openConnections;
+    }
+    return new PoolStatistics(
+        name,
+        size,
+        open,
+        leasedConnections.get(),
+        peakLeasedConnections.get(),
+        acquisitions.get(),
+        saturatedAcquisitions.get(),
+        timedOutAcquisitions.get(),
+        totalAcquireNanos.get(),
+        maxAcquireNanos.get());
+  }
+
+  synchronized void closeIdleConnections() {
+    while (!idleConnections.isEmpty()) {
+      idleConnections.pop().close();
+      openConnections--;
+    }
+  }
+
+  private void acquirePermit() throws SQLException {
+    try {
+      if (!permits.tryAcquire(ACQUIRE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+        timedOutAcquisitions.incrementAndGet();
+        throw new SQLException(
+            "No "
+                + name
+                + " database connection became available in "
+                + ACQUIRE_TIMEOUT_MILLIS
+                + " ms, all "
+                + size
+                + " connections are in use");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while waiting for a database connection", e);
+    }
+  }
+
+  private PooledConnection takeIdleConnection() throws SQLException {
+    synchronized (this) {
+      if (!idleConnections.isEmpty()) {
+        return idleConnections.pop();
+      }
+      openConnections++;
+    }
+    try {
+      return new PooledConnection(
+          SqliteDatabaseConnectionFactory.createConnection(storageMode, readOnly),
+          STATEMENT_CACHE_SIZE,
+          statementCacheStatistics);
+    } catch (SQLException e) {
+      synchronized (this) {
+        openConnections--;
+      }
+      throw e;
+    }
+  }
+
+  private void recordAcquisition(long acquireNanos) {
+    acquisitions.incrementAndGet();
+    totalAcquireNanos.addAndGet(acquireNanos);
+    maxAcquireNanos.accumulateAndGet(acquireNanos, Math::max);
+    int leased = leasedConnections.incrementAndGet();
+    peakLeasedConnections.accumulateAndGet(leased, Math::max);
+  }
+
+  private void discard(PooledConnection connection) {
+    connection.close();
+    synchronized (this) {
+      openConnections--;
+    }
+  }
+}
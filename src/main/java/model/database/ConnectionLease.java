@@ -0,0 +1,143 @@
+package model.database;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ConnectionLease grants temporary, exclusive access to one of the connections of the
+ * SqliteConnectionPool. The connection must not be closed by the holder of the lease: closing the
+ * lease returns the connection to the pool, so it should always be used in a try-with-resources
+ * block.
+ *
+ * <p>A lease taken while a unit of work is open on the thread belongs to the transaction of the
+ * unit of work: closing it has no effect, the connection is returned when the unit of work ends.
+ *
+ * <p>A read-only lease taken while CancellableQueries are open on the thread belongs to them: its
+ * running statement is cancelled with them.
+ */
+public class ConnectionLease implements AutoCloseable {
+  private final ConnectionGroup group;
+  private final PooledConnection pooledConnection;
+  private final @Nullable Transaction transaction;
+  private @Nullable CancellableQueries cancellableQueries = null;
+  // The statement prepared last, which is the one running, if any.
+  private volatile @Nullable PreparedStatement lastStatement = null;
+  private volatile boolean statementCancelled = false;
+  private boolean released = false;
+
+  ConnectionLease(ConnectionGroup group, PooledConnection pooledConnection) {
+    this(group, pooledConnection, null);
+  }
+
+  private ConnectionLease(
+      ConnectionGroup group, PooledConnection pooledConnection, @Nullable Transaction transaction) {
+    this.group = group;
+    this.pooledConnection = pooledConnection;
+    this.transaction = transaction;
+  }
+
+  /** @return the leased connection. It is valid only until the lease is closed. */
+  public Connection getConnection() {
+    guaranteeNotReleased();
+    return pooledConnection.getConnection();
+  }
+
+  /**
+   * Returns the prepared statement with the given sql text from the statement cache of the leased
+   * connection, preparing it only on its first use. Remark that the statement belongs to the cache:
+   * it must not be closed by the caller, only its result sets.
+   *
+   * @param sql is the text of the statement.
+   * @return the prepared statement, with its parameters cleared.
+   * @throws SQLException if the statement could not be prepared.
+   */
+  public PreparedStatement prepareStatement(String sql) throws SQLException {
+    guaranteeNotReleased();
+    if (transaction != null) {
+      transaction.recordStatement();
+    }
+    PreparedStatement statement = pooledConnection.getStatementCache().prepare(sql);
+    lastStatement = statement;
+    return statement;
+  }
+
+  /**
+   * Executes an insert statement prepared on the leased connection and returns the id generated for
+   * the inserted row, without querying the table again.
+   *
+   * @param insertStatement is the prepared insert statement, with all its parameters set.
+   * @return the id of the inserted row.
+   * @throws SQLException if the insertion failed, or no id was generated.
+   */
+  public int executeInsert(PreparedStatement insertStatement) throws SQLException {
+    guaranteeNotReleased();
+    insertStatement.executeUpdate();
+    try (ResultSet generatedKeys = insertStatement.getGeneratedKeys()) {
+      if (!generatedKeys.next()) {
+        throw new SQLException("No id was generated for the inserted row");
+      }
+      return generatedKeys.getInt(1);
+    }
+  }
+
+  /** Returns the connection to the pool. Closing the lease more than once has no effect. */
+  @Override
+  public void close() {
+    if (!released) {
+      released = true;
+      if (cancellableQueries != null) {
+        cancellableQueries.unregister(this);
+        if (statementCancelled) {
+          // the driver finalizes an interrupted statement, so it cannot be reused
+          pooledConnection.getStatementCache().discard(lastStatement);
+        }
+      }
+      if (transaction == null) {
+        group.release(pooledConnection);
+      }
+    }
+  }
+
+  /**
+   * Adds the lease to the cancellable queries of its thread.
+   *
+   * @throws SQLException if the queries were already cancelled.
+   */
+  void joinCancellableQueries(CancellableQueries cancellableQueries) throws SQLException {
+    cancellableQueries.register(this);
+    this.cancellableQueries = cancellableQueries;
+  }
+
+  /**
+   * Interrupts the statement running on the leased connection. Called only by the
+   * CancellableQueries of the lease, while the lease is still open.
+   */
+  void cancelStatement() {
+    PreparedStatement statement = lastStatement;
+    if (statement == null) {
+      return;
+    }
+    statementCancelled = true;
+    try {
+      statement.cancel();
+    } catch (SQLException e) {
+      // the query may have finished meanwhile, cancelling it is only an optimisation
+    }
+  }
+
+  /** @return a lease of the same connection, which belongs to the given transaction. */
+  ConnectionLease joinTransaction(Transaction transaction) {
+    guaranteeNotReleased();
+    return new ConnectionLease(group, pooledConnection, transaction);
+  }
+
+  private void guaranteeNotReleased() {
+    if (released) {
+      throw new IllegalStateException("The connection lease has already been released");
+    }
+  }
+}
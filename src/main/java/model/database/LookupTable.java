@@ -0,0 +1,94 @@
+package model.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * LookupTable is an immutable, two-way dictionary between the constants of an enum and the ids of
+ * the rows of a lookup table of the database, such as ProjectStatus or Importance. It is loaded
+ * once, so the repositories can bind the ids of the enum constants and map the ids of the results
+ * back to enum constants without querying or joining the lookup table.
+ */
+public class LookupTable<E extends Enum<E>> {
+  private final String tableName;
+  private final Map<E, Integer> ids;
+  private final Map<Integer, E> values;
+
+  private LookupTable(String tableName, Map<E, Integer> ids, Map<Integer, E> values) {
+    this.tableName = tableName;
+    this.ids = Collections.unmodifiableMap(ids);
+    this.values = Collections.unmodifiableMap(values);
+  }
+
+  /**
+   * Loads the lookup table from the database and verifies that it matches the enum: every constant
+   * of the enum has exactly one row with its name, and every row has the name of a constant.
+   *
+   * @param connection is the connection through which the table is read.
+   * @param enumClass is the class of the enum mirrored by the table.
+   * @param tableName is the name of the lookup table.
+   * @param idColumn is the name of the column holding the ids.
+   * @param nameColumn is the name of the column holding the names of the enum constants.
+   * @return the loaded dictionary.
+   * @throws SQLException if the table could not be read, or its content does not match the enum.
+   */
+  static <E extends Enum<E>> LookupTable<E> load(
+      Connection connection,
+      Class<E> enumClass,
+      String tableName,
+      String idColumn,
+      String nameColumn)
+      throws SQLException {
+    Map<E, Integer> ids = new EnumMap<>(enumClass);
+    Map<Integer, E> values = new HashMap<>();
+    try (PreparedStatement loadSt =
+            connection.prepareStatement(
+                "SELECT " + idColumn + ", " + nameColumn + " FROM " + tableName);
+        ResultSet result = loadSt.executeQuery()) {
+      while (result.next()) {
+        int id = result.getInt(idColumn);
+        String name = result.getString(nameColumn);
+        E value;
+        try {
+          value = Enum.valueOf(enumClass, name);
+        } catch (IllegalArgumentException e) {
+          throw new SQLException(
+              "Unknown " + enumClass.getSimpleName() + " " + name + " in table " + tableName, e);
+        }
+        if (ids.put(value, id) != null) {
+          throw new SQLException("Duplicate " + name + " in table " + tableName);
+        }
+        values.put(id, value);
+      }
+    }
+    for (E value : enumClass.getEnumConstants()) {
+      if (!ids.containsKey(value)) {
+        throw new SQLException("Missing " + value + " from table " + tableName);
+      }
+    }
+    return new LookupTable<>(tableName, ids, values);
+  }
+
+  /** @return the id of the row of the given enum constant. */
+  public int getId(E value) {
+    return ids.get(value);
+  }
+
+  /**
+   * @return the enum constant of the row with the given id.
+   * @throws SQLException if there is no row with the given id.
+   */
+  public E getValue(int id) throws SQLException {
+    E value = values.get(id);
+    if (value == null) {
+      throw new SQLException("Unknown id " + id + " in table " + tableName);
+    }
+    return value;
+  }
+}
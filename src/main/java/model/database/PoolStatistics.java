@@ -0,0 +1,116 @@
+package model.database;
+
+/**
+ * PoolStatistics is an immutable snapshot of the usage of a group of connections of the
+ * SqliteConnectionPool, used to report how long the repositories wait for connections and how often
+ * the group is saturated.
+ */
+public class PoolStatistics {
+  private final String name;
+  private final int poolSize;
+  private final int openConnections;
+  private final int leasedConnections;
+  private final int peakLeasedConnections;
+  private final long acquisitions;
+  private final long saturatedAcquisitions;
+  private final long timedOutAcquisitions;
+  private final long totalAcquireNanos;
+  private final long maxAcquireNanos;
+
+  PoolStatistics(
+      String name,
+      int poolSize,
+      int openConnections,
+      int leasedConnections,
+      int peakLeasedConnections,
+      long acquisitions,
+      long saturatedAcquisitions,
+      long timedOutAcquisitions,
+      long totalAcquireNanos,
+      long maxAcquireNanos) {
+    this.name = name;
+    this.poolSize = poolSize;
+    this.openConnections = openConnections;
+    this.leasedConnections = leasedConnections;
+    this.peakLeasedConnections = peakLeasedConnections;
+    this.acquisitions = acquisitions;
+    this.saturatedAcquisitions = saturatedAcquisitions;
+    this.timedOutAcquisitions = timedOutAcquisitions;
+    this.totalAcquireNanos = totalAcquireNanos;
+    this.maxAcquireNanos = maxAcquireNanos;
+  }
+
+  /** @return the name of the group of connections, either reader or writer. */
+  public String getName() {
+    return name;
+  }
+
+  /** @return the maximal number of connections the group may open. */
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  /** @return the number of physical connections which are currently open. */
+  public int getOpenConnections() {
+    return openConnections;
+  }
+
+  /** @return the number of connections which are currently leased. */
+  public int getLeasedConnections() {
+    return leasedConnections;
+  }
+
+  /** @return the highest number of connections which were leased at the same time. */
+  public int getPeakLeasedConnections() {
+    return peakLeasedConnections;
+  }
+
+  /** @return the number of successful lease requests. */
+  public long getAcquisitions() {
+    return acquisitions;
+  }
+
+  /** @return the number of lease requests which had to wait because all connections were in use. */
+  public long getSaturatedAcquisitions() {
+    return saturatedAcquisitions;
+  }
+
+  /** @return the number of lease requests which gave up waiting for a free connection. */
+  public long getTimedOutAcquisitions() {
+    return timedOutAcquisitions;
+  }
+
+  /** @return the average time needed to acquire a connection, in microseconds. */
+  public double getAverageAcquireMicros() {
+    return acquisitions == 0 ? 0 : totalAcquireNanos / 1000.0 / acquisitions;
+  }
+
+  /** @return the longest time needed to acquire a connection, in microseconds. */
+  public double getMaxAcquireMicros() {
+    return maxAcquireNanos / 1000.0;
+  }
+
+  /** @return the ratio of lease requests which found the pool saturated. */
+  public double getSaturationRatio() {
+    long requests = acquisitions + timedOutAcquisitions;
+    return requests == 0 ? 0 : (double) saturatedAcquisitions / requests;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s connections: %d/%d open, %d leased (peak %d); acquisitions: %d, avg %.1f us, max %.1f"
+            + " us; saturated: %d (%.1f%%), timed out: %d",
+        name,
+        openConnections,
+        poolSize,
+        leasedConnections,
+        peakLeasedConnections,
+        acquisitions,
+        getAverageAcquireMicros(),
+        getMaxAcquireMicros(),
+        saturatedAcquisitions,
+        getSaturationRatio() * 100,
+        timedOutAcquisitions);
+  }
+}
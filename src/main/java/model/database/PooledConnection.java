@@ -0,0 +1,36 @@
+package model.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * PooledConnection is a long-lived connection owned by the SqliteConnectionPool, together with the
+ * cache of the statements prepared on it.
+ */
+class PooledConnection {
+  private final Connection connection;
+  private final StatementCache statementCache;
+
+  PooledConnection(Connection connection, int statementCacheSize, CacheStatistics statistics) {
+    this.connection = connection;
+    this.statementCache = new StatementCache(connection, statementCacheSize, statistics);
+  }
+
+  Connection getConnection() {
+    return connection;
+  }
+
+  StatementCache getStatementCache() {
+    return statementCache;
+  }
+
+  /** Closes the cached statements and the connection itself. */
+  void close() {
+    statementCache.clear();
+    try {
+      connection.close();
+    } catch (SQLException ignored) {
+      // the connection is dropped anyway
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package model.database;
+
+import java.sql.SQLException;
+
+/**
+ * RowVisitor receives the rows of a query one by one, while the cursor of the query is still open,
+ * so the rows can be processed without collecting all of them in memory first.
+ *
+ * <p>Remark that the connection of the query stays leased while the visitor runs, so the visitor
+ * should not wait for other threads, and it should write to the database only inside a unit of
+ * work, which shares its connection with the query.
+ */
+public interface RowVisitor<T> {
+  /**
+   * Processes the next row of the query.
+   *
+   * @param row is the entity read from the current row.
+   * @return true if the next row is needed, false to stop reading and close the cursor.
+   * @throws SQLException if the processing of the row needed the database, and failed.
+   */
+  boolean visit(T row) throws SQLException;
+}
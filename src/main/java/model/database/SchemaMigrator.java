@@ -0,0 +1,136 @@
+package model.database;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * SchemaMigrator brings the schema of the database up to date when the application starts. The
+ * version of the schema is stored in the user_version field of the database, and every newer
+ * migration script is applied in order, each in its own transaction, which also sets the new
+ * version. If the database file is missing, sqlite creates an empty one, and the whole schema is
+ * created by the first migration.
+ *
+ * <p>The migration scripts are the resources of the db/migration directory, named
+ * V[version]__[description].sql. A new migration is added by creating its script and appending its
+ * name to MIGRATIONS: the scripts which are already released must never be changed.
+ */
+class SchemaMigrator {
+  private static final String MIGRATION_DIRECTORY = "/db/migration/";
+
+  // The names of the migration scripts, in the order of their versions: the script of version v is
+  // the v-th one.
+  private static final List<String> MIGRATIONS =
+      List.of(
+          "V1__baseline_schema.sql",
+          "V2__access_path_indexes.sql",
+          "V3__epoch_day_dates.sql",
+          "V4__comment_history_index.sql",
+          "V5__cascade_foreign_keys.sql");
+
+  // The version of the schema of databases created before the migrations were introduced.
+  private static final int BASELINE_VERSION = 1;
+
+  private SchemaMigrator() {}
+
+  /**
+   * Applies all the migrations which are newer than the version of the database.
+   *
+   * @param connection is a connection to the database, in autocommit mode, which is not used by
+   *     anyone else during the migration.
+   * @throws SQLException if a migration failed, in which case its changes are rolled back, or the
+   *     database is newer than the application.
+   */
+  static void migrate(Connection connection) throws SQLException {
+    int version = getUserVersion(connection);
+    if (version == 0 && hasBaselineSchema(connection)) {
+      // the database was created before versioning, by the same script as the baseline
+      setUserVersion(connection, BASELINE_VERSION);
+      version = BASELINE_VERSION;
+    }
+    if (version > MIGRATIONS.size()) {
+      throw new SQLException(
+          "The schema of the database has version "
+              + version
+              + ", but the application knows only version "
+              + MIGRATIONS.size());
+    }
+    for (int nextVersion = version + 1; nextVersion <= MIGRATIONS.size(); nextVersion++) {
+      applyMigration(connection, nextVersion, MIGRATIONS.get(nextVersion - 1));
+    }
+  }
+
+  private static void applyMigration(Connection connection, int version, String scriptName)
+      throws SQLException {
+    String script = readScript(scriptName);
+    try (Statement statement = connection.createStatement()) {
+      // while a table is rebuilt, the foreign keys referencing it are temporarily broken
+      statement.execute("PRAGMA foreign_keys = OFF");
+      connection.setAutoCommit(false);
+      try {
+        statement.executeUpdate(script);
+        guaranteeForeignKeysHold(statement, scriptName);
+        statement.execute("PRAGMA user_version = " + version);
+        connection.commit();
+      } catch (SQLException e) {
+        connection.rollback();
+        throw new SQLException("The migration " + scriptName + " failed", e);
+      } finally {
+        connection.setAutoCommit(true);
+        statement.execute("PRAGMA foreign_keys = ON");
+      }
+    }
+  }
+
+  private static void guaranteeForeignKeysHold(Statement statement, String scriptName)
+      throws SQLException {
+    try (ResultSet violations = statement.executeQuery("PRAGMA foreign_key_check")) {
+      if (violations.next()) {
+        throw new SQLException(
+            "The migration "
+                + scriptName
+                + " violates a foreign key of table "
+                + violations.getString("table"));
+      }
+    }
+  }
+
+  private static String readScript(String scriptName) throws SQLException {
+    try (InputStream script =
+        SchemaMigrator.class.getResourceAsStream(MIGRATION_DIRECTORY + scriptName)) {
+      if (script == null) {
+        throw new SQLException("The migration " + scriptName + " is missing");
+      }
+      return new String(script.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new SQLException("The migration " + scriptName + " could not be read", e);
+    }
+  }
+
+  private static boolean hasBaselineSchema(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet result =
+            statement.executeQuery(
+                "SELECT count(*) FROM sqlite_master WHERE type = 'table' AND name = 'Project'")) {
+      return result.next() && result.getInt(1) > 0;
+    }
+  }
+
+  private static int getUserVersion(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet result = statement.executeQuery("PRAGMA user_version")) {
+      return result.next() ? result.getInt(1) : 0;
+    }
+  }
+
+  private static void setUserVersion(Connection connection, int version) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("PRAGMA user_version = " + version);
+    }
+  }
+}
@@ -0,0 +1,219 @@
+package model.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * SqliteConnectionPool owns the long-lived connections to the sqlite database, which are shared by
+ * all repositories. Instead of opening the database file for every query, a repository leases an
+ * idle connection and returns it by closing the lease, so opening the connection and warming up its
+ * page cache is paid only once per connection. Each connection also keeps a cache of the statements
+ * prepared on it, so the sql constants of the repositories are parsed and planned only once per
+ * connection.
+ *
+ * <p>The connections are split into a group of read-only connections, used concurrently by the
+ * queries, and a single writer connection, through which all updates, insertions and deletions are
+ * serialized. In WAL storage mode the readers keep reading the last committed state while the
+ * writer works, so queries never wait behind writes. In ROLLBACK_JOURNAL mode a commit still locks
+ * the whole database, so readers and the writer wait for each other.
+ *
+ * <p>Before the first connection is leased, the schema of the database is brought up to date by the
+ * SchemaMigrator.
+ *
+ * <p>Several repository calls can be grouped into a single transaction by opening a UnitOfWork:
+ * while it is open, all the leases requested on its thread share its writer connection.
+ *
+ * <p>The queries made on a thread can be cancelled from another thread by opening
+ * CancellableQueries on it.
+ *
+ * <p>The pool keeps statistics about the time spent acquiring connections and about how often the
+ * groups are saturated.
+ *
+ * <p>Implemented with the singleton pattern.
+ */
+public class SqliteConnectionPool {
+  private static final SqliteConnectionPool instance =
+      new SqliteConnectionPool(StorageMode.fromSystemProperty(), 4);
+
+  private final StorageMode storageMode;
+  private final CacheStatistics statementCacheStatistics = new CacheStatistics();
+  private final ConnectionGroup readers;
+  private final ConnectionGroup writer;
+  private final ThreadLocal<Transaction> currentTransaction = new ThreadLocal<>();
+  private final ThreadLocal<CancellableQueries> currentCancellableQueries = new ThreadLocal<>();
+  private final TransactionStatistics transactionStatistics = new TransactionStatistics();
+  private volatile boolean schemaMigrated = false;
+
+  private SqliteConnectionPool(StorageMode storageMode, int readerCount) {
+    this.storageMode = storageMode;
+    this.readers =
+        new ConnectionGroup("reader", readerCount, storageMode, true, statementCacheStatistics);
+    this.writer = new ConnectionGroup("writer", 1, storageMode, false, statementCacheStatistics);
+    Runtime.getRuntime().addShutdownHook(new Thread(this::closeIdleConnections));
+  }
+
+  public static SqliteConnectionPool getInstance() {
+    return instance;
+  }
+
+  /**
+   * Leases a read-only connection, waiting for one to be released if all of them are in use.
+   *
+   * @return the lease of the connection, which must be closed after use.
+   * @throws SQLException if no connection became available in time, a new connection could not be
+   *     opened, or the cancellable queries open on the thread were cancelled.
+   */
+  public ConnectionLease leaseReader() throws SQLException {
+    Transaction transaction = currentTransaction.get();
+    if (transaction != null) {
+      // the reads of a unit of work must see its uncommitted changes
+      return transaction.join();
+    }
+    guaranteeSchemaMigrated();
+    ConnectionLease lease = readers.lease();
+    CancellableQueries cancellableQueries = currentCancellableQueries.get();
+    if (cancellableQueries != null) {
+      try {
+        lease.joinCancellableQueries(cancellableQueries);
+      } catch (SQLException e) {
+        lease.close();
+        throw e;
+      }
+    }
+    return lease;
+  }
+
+  /**
+   * Leases the writer connection, waiting until the previous writer releases it. Remark that the
+   * writer lease should be held only for the duration of the write.
+   *
+   * @return the lease of the connection, which must be closed after use.
+   * @throws SQLException if the writer connection did not become available in time, or it could not
+   *     be opened.
+   */
+  public ConnectionLease leaseWriter() throws SQLException {
+    Transaction transaction = currentTransaction.get();
+    if (transaction != null) {
+      return transaction.join();
+    }
+    guaranteeSchemaMigrated();
+    return writer.lease();
+  }
+
+  /**
+   * Opens a unit of work on the current thread. If a unit of work is already open on the thread,
+   * the new one joins its transaction. Otherwise, the writer connection is leased and a new
+   * transaction is started on it, which lasts until the unit of work is closed.
+   *
+   * @return the unit of work, which must be committed and closed by the caller.
+   * @throws SQLException if the writer connection did not become available in time, or the
+   *     transaction could not be started.
+   */
+  public UnitOfWork beginUnitOfWork() throws SQLException {
+    Transaction transaction = currentTransaction.get();
+    if (transaction != null) {
+      return new UnitOfWork(transaction, false);
+    }
+    guaranteeSchemaMigrated();
+    ConnectionLease writerLease = writer.lease();
+    try {
+      writerLease.getConnection().setAutoCommit(false);
+    } catch (SQLException e) {
+      writerLease.close();
+      throw e;
+    }
+    transaction = new Transaction(writerLease, transactionStatistics, currentTransaction::remove);
+    currentTransaction.set(transaction);
+    return new UnitOfWork(transaction, true);
+  }
+
+  /**
+   * Opens a group of cancellable queries on the current thread: the read-only leases taken on the
+   * thread until the group is closed can be cancelled together from any thread. If a group is
+   * already open on the thread, it is replaced until the new one is closed.
+   *
+   * @return the group, which must be closed on the current thread.
+   */
+  public CancellableQueries beginCancellableQueries() {
+    CancellableQueries previousQueries = currentCancellableQueries.get();
+    CancellableQueries cancellableQueries =
+        new CancellableQueries(() -> currentCancellableQueries.set(previousQueries));
+    currentCancellableQueries.set(cancellableQueries);
+    return cancellableQueries;
+  }
+
+  /** @return true if a unit of work is open on the current thread. */
+  public boolean isInUnitOfWork() {
+    return currentTransaction.get() != null;
+  }
+
+  /**
+   * Runs an action after the changes made on the current thread are final: at the end of the unit
+   * of work open on the thread, whether it was committed or rolled back, or immediately if there is
+   * none. Caches use it to be invalidated only when the new state is visible to all connections.
+   *
+   * @param action is the action to run.
+   */
+  public void runAfterUnitOfWork(Runnable action) {
+    Transaction transaction = currentTransaction.get();
+    if (transaction != null) {
+      transaction.runAtEnd(action);
+    } else {
+      action.run();
+    }
+  }
+
+  /** @return the number of read-only connections, which is the number of queries run at once. */
+  public int getReaderCount() {
+    return readers.getSize();
+  }
+
+  public StorageMode getStorageMode() {
+    return storageMode;
+  }
+
+  /** @return a snapshot of the usage statistics of the read-only connections. */
+  public PoolStatistics getReaderStatistics() {
+    return readers.getStatistics();
+  }
+
+  /** @return a snapshot of the usage statistics of the writer connection. */
+  public PoolStatistics getWriterStatistics() {
+    return writer.getStatistics();
+  }
+
+  /** @return the commit and statement counters of the units of work. */
+  public TransactionStatistics getTransactionStatistics() {
+    return transactionStatistics;
+  }
+
+  /** @return the hit and miss counters of the statement caches of all connections. */
+  public CacheStatistics getStatementCacheStatistics() {
+    return statementCacheStatistics;
+  }
+
+  /**
+   * Applies the pending migrations to the database, then loads the SqliteLookupTables, on a
+   * separate connection, which is not leased from the pool, the first time it is called. If the
+   * migration or the loading fails, it is retried at the next call.
+   */
+  void guaranteeSchemaMigrated() throws SQLException {
+    if (!schemaMigrated) {
+      synchronized (this) {
+        if (!schemaMigrated) {
+          try (Connection connection =
+              SqliteDatabaseConnectionFactory.createConnection(storageMode, false)) {
+            SchemaMigrator.migrate(connection);
+            SqliteLookupTables.load(connection);
+          }
+          schemaMigrated = true;
+        }
+      }
+    }
+  }
+
+  private void closeIdleConnections() {
+    readers.closeIdleConnections();
+    writer.closeIdleConnections();
+  }
+}
@@ -3,25 +3,66 @@ package model.database;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 /**
- * SqliteDatabaseConnectionFactory is responsible for creating exactly one instance of database
- * connection (remark thhe singleton pattern), used in all repositories. If more connections would
- * be used, the database would get locked and updates would not be possible.
+ * SqliteDatabaseConnectionFactory is responsible for opening new physical connections to the sqlite
+ * database and configuring them for the selected storage mode. Remark that the repositories should
+ * not use it directly: the connections are owned by the SqliteConnectionPool, which opens them
+ * through this factory once and then hands them out repeatedly.
  *
  * @author Bori Fazakas
  */
 public class SqliteDatabaseConnectionFactory {
+  private static final String DATABASE_URL =
+      "jdbc:sqlite:project_management_app" + ".db" + "?foreign_keys=on";
 
-  public static Connection getConnection() {
+  // How long a connection waits for a lock held by another connection before failing.
+  private static final int BUSY_TIMEOUT_MILLIS = 5000;
+  // Size of the page cache of each connection: a negative value is in KiB, so this is 8 MiB.
+  private static final int CACHE_SIZE = -8192;
+  // Maximal number of bytes of the database file which are memory-mapped, 256 MiB.
+  private static final long MMAP_SIZE = 268435456;
+
+  static {
     try {
       Class.forName("org.sqlite.JDBC");
-      return DriverManager.getConnection(
-          "jdbc:sqlite:project_management_app" + ".db" + "?foreign_keys=on");
-    } catch (ClassNotFoundException | SQLException e) {
+    } catch (ClassNotFoundException e) {
       e.printStackTrace();
       System.exit(1);
     }
-    return null;
+  }
+
+  /**
+   * Opens a new connection to the database.
+   *
+   * @param storageMode is the journal mode of the database. In WAL mode, the connection is also
+   *     tuned for reading from memory-mapped pages, and for syncing to disk only at checkpoints.
+   * @param readOnly specifies whether the connection may only be used for queries.
+   * @return the newly opened connection. The caller is responsible for closing it.
+   * @throws SQLException if the database could not be opened.
+   */
+  public static Connection createConnection(StorageMode storageMode, boolean readOnly)
+      throws SQLException {
+    Connection connection = DriverManager.getConnection(DATABASE_URL);
+    try (Statement pragmas = connection.createStatement()) {
+      pragmas.execute("PRAGMA busy_timeout = " + BUSY_TIMEOUT_MILLIS);
+      if (storageMode == StorageMode.WAL) {
+        pragmas.execute("PRAGMA journal_mode = WAL");
+        // in WAL mode, a commit is durable after the next checkpoint, but never corrupts the file
+        pragmas.execute("PRAGMA synchronous = NORMAL");
+        pragmas.execute("PRAGMA cache_size = " + CACHE_SIZE);
+        pragmas.execute("PRAGMA mmap_size = " + MMAP_SIZE);
+      } else {
+        pragmas.execute("PRAGMA journal_mode = DELETE");
+      }
+      if (readOnly) {
+        pragmas.execute("PRAGMA query_only = 1");
+      }
+    } catch (SQLException e) {
+      connection.close();
+      throw e;
+    }
+    return connection;
   }
 }
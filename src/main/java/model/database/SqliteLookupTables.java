@@ -0,0 +1,63 @@
+package model.database;
+
+import model.project.Project;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * SqliteLookupTables holds the dictionaries of all lookup tables of the database, shared by every
+ * repository which needs to convert between enum constants and their ids. The tables are loaded and
+ * verified once, by the SqliteConnectionPool, right after it migrated the schema, through the
+ * connection of the migration. So the repositories, which request the instance while they hold a
+ * lease, never wait for a second lease of the pool.
+ *
+ * <p>Implemented with the singleton pattern.
+ */
+public class SqliteLookupTables {
+  private static volatile SqliteLookupTables instance;
+
+  private final LookupTable<Project.Status> projectStatuses;
+  private final LookupTable<Project.Importance> importances;
+
+  private SqliteLookupTables(Connection connection) throws SQLException {
+    projectStatuses =
+        LookupTable.load(
+            connection, Project.Status.class, "ProjectStatus", "StatusId", "StatusName");
+    importances =
+        LookupTable.load(
+            connection, Project.Importance.class, "Importance", "ImportanceId", "ImportanceName");
+  }
+
+  /**
+   * Loads the lookup tables through the given connection, which is not leased from the pool.
+   *
+   * @throws SQLException if the lookup tables could not be loaded, or they do not match the enums.
+   */
+  static void load(Connection connection) throws SQLException {
+    instance = new SqliteLookupTables(connection);
+  }
+
+  /**
+   * Implemented with the singleton pattern.
+   *
+   * @throws SQLException if the schema could not be migrated, or the lookup tables could not be
+   *     loaded, or they do not match the enums.
+   */
+  public static SqliteLookupTables getInstance() throws SQLException {
+    if (instance == null) {
+      SqliteConnectionPool.getInstance().guaranteeSchemaMigrated();
+    }
+    return instance;
+  }
+
+  /** @return the dictionary of the ProjectStatus table. */
+  public LookupTable<Project.Status> getProjectStatuses() {
+    return projectStatuses;
+  }
+
+  /** @return the dictionary of the Importance table. */
+  public LookupTable<Project.Importance> getImportances() {
+    return importances;
+  }
+}
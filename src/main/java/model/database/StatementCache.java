@@ -0,0 +1,80 @@
+package model.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * StatementCache keeps the prepared statements of one connection, keyed by their sql text, so that
+ * a frequently executed statement is parsed and planned by sqlite only once. When the cache is
+ * full, the least recently used statement is closed and evicted.
+ *
+ * <p>It is not thread-safe: it is only accessed by the holder of the lease of its connection.
+ */
+class StatementCache {
+  private final Connection connection;
+  private final CacheStatistics statistics;
+  private final LinkedHashMap<String, PreparedStatement> statements;
+
+  StatementCache(Connection connection, int capacity, CacheStatistics statistics) {
+    this.connection = connection;
+    this.statistics = statistics;
+    this.statements =
+        new LinkedHashMap<>(capacity, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+            if (size() > capacity) {
+              closeQuietly(eldest.getValue());
+              statistics.recordEviction();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /**
+   * Returns the prepared statement for the given sql text, preparing it only if it is not cached
+   * yet. The parameters of a reused statement are cleared.
+   */
+  PreparedStatement prepare(String sql) throws SQLException {
+    PreparedStatement statement = statements.get(sql);
+    if (statement != null && !statement.isClosed()) {
+      statistics.recordHit();
+      statement.clearParameters();
+      return statement;
+    }
+    statistics.recordMiss();
+    statement = connection.prepareStatement(sql);
+    statements.put(sql, statement);
+    return statement;
+  }
+
+  /**
+   * Closes and removes a cached statement which is not usable anymore, so it is prepared again at
+   * its next use. For example, the sqlite driver finalizes a statement whose query was interrupted.
+   */
+  void discard(PreparedStatement statement) {
+    if (statements.values().remove(statement)) {
+      closeQuietly(statement);
+    }
+  }
+
+  /** Closes all the cached statements. */
+  void clear() {
+    for (PreparedStatement statement : statements.values()) {
+      closeQuietly(statement);
+    }
+    statements.clear();
+  }
+
+  private static void closeQuietly(PreparedStatement statement) {
+    try {
+      statement.close();
+    } catch (SQLException ignored) {
+      // the statement is dropped anyway
+    }
+  }
+}
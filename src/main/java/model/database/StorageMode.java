@@ -0,0 +1,26 @@
+package model.database;
+
+/**
+ * StorageMode specifies how sqlite journals the changes of the database, which determines whether
+ * readers and the writer can work at the same time.
+ */
+public enum StorageMode {
+  /**
+   * The default journal of sqlite: while a write is committed, the whole database is locked, so
+   * readers and the writer wait for each other.
+   */
+  ROLLBACK_JOURNAL,
+  /**
+   * Write-ahead logging: readers keep reading the last committed state while the writer appends to
+   * the log, so reads never wait behind writes. There can still be only one writer at a time.
+   */
+  WAL;
+
+  /** The system property which can be used to choose the storage mode at startup. */
+  public static final String PROPERTY_NAME = "projectmanagement.storageMode";
+
+  /** @return the storage mode set by the system property, WAL if it is not set. */
+  public static StorageMode fromSystemProperty() {
+    return valueOf(System.getProperty(PROPERTY_NAME, WAL.name()));
+  }
+}
@@ -0,0 +1,81 @@
+package model.database;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transaction is the state of the database transaction of a unit of work, shared by the outermost
+ * UnitOfWork and all the units of work nested in it on the same thread. It holds the lease of the
+ * writer connection for its whole duration, and all the repositories of the thread join it.
+ */
+class Transaction {
+  private final ConnectionLease writerLease;
+  private final TransactionStatistics statistics;
+  private final Runnable onEnd;
+  private final List<Runnable> endActions = new ArrayList<>();
+  private int statementCount = 0;
+  private boolean rollbackOnly = false;
+  private boolean committed = false;
+
+  /**
+   * @param writerLease is the lease of the writer connection, already in manual commit mode.
+   * @param statistics is where the outcome of the transaction is recorded.
+   * @param onEnd is run when the transaction ends, to detach it from its thread.
+   */
+  Transaction(ConnectionLease writerLease, TransactionStatistics statistics, Runnable onEnd) {
+    this.writerLease = writerLease;
+    this.statistics = statistics;
+    this.onEnd = onEnd;
+  }
+
+  /** @return a lease of the writer connection of the transaction, whose closing has no effect. */
+  ConnectionLease join() {
+    return writerLease.joinTransaction(this);
+  }
+
+  void recordStatement() {
+    statementCount++;
+  }
+
+  int getStatementCount() {
+    return statementCount;
+  }
+
+  /** Registers an action which is run after the transaction ended and released its connection. */
+  void runAtEnd(Runnable action) {
+    endActions.add(action);
+  }
+
+  /** Marks that a nested unit of work failed, so the transaction must not be committed. */
+  void markRollbackOnly() {
+    rollbackOnly = true;
+  }
+
+  void commit() throws SQLException {
+    if (rollbackOnly) {
+      throw new SQLException("The transaction cannot be committed, a nested unit of work failed");
+    }
+    writerLease.getConnection().commit();
+    committed = true;
+    statistics.recordCommit(statementCount);
+  }
+
+  /**
+   * Ends the transaction: if it was not committed, it is rolled back when the writer connection is
+   * returned to the pool.
+   */
+  void end() {
+    try {
+      onEnd.run();
+      if (!committed) {
+        statistics.recordRollback(statementCount);
+      }
+    } finally {
+      writerLease.close();
+      for (Runnable action : endActions) {
+        action.run();
+      }
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package model.database;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TransactionStatistics counts the units of work committed or rolled back through the
+ * SqliteConnectionPool, and the number of statements they contained, which shows how many
+ * statements share a single commit. It is thread-safe.
+ */
+public class TransactionStatistics {
+  private final AtomicLong commits = new AtomicLong();
+  private final AtomicLong rollbacks = new AtomicLong();
+  private final AtomicLong committedStatements = new AtomicLong();
+  private final AtomicLong maxStatements = new AtomicLong();
+
+  void recordCommit(int statementCount) {
+    commits.incrementAndGet();
+    committedStatements.addAndGet(statementCount);
+    maxStatements.accumulateAndGet(statementCount, Math::max);
+  }
+
+  void recordRollback(int statementCount) {
+    rollbacks.incrementAndGet();
+    maxStatements.accumulateAndGet(statementCount, Math::max);
+  }
+
+  /** @return the number of committed units of work. */
+  public long getCommits() {
+    return commits.get();
+  }
+
+  /** @return the number of units of work which were rolled back. */
+  public long getRollbacks() {
+    return rollbacks.get();
+  }
+
+  /** @return the total number of statements of the committed units of work. */
+  public long getCommittedStatements() {
+    return committedStatements.get();
+  }
+
+  /** @return the highest number of statements executed in a single unit of work. */
+  public long getMaxStatements() {
+    return maxStatements.get();
+  }
+
+  /** @return the average number of statements of the committed units of work. */
+  public double getAverageStatementsPerCommit() {
+    long committed = commits.get();
+    return committed == 0 ? 0 : (double) committedStatements.get() / committed;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "commits: %d, rollbacks: %d, statements per commit: avg %.1f, max %d",
+        getCommits(), getRollbacks(), getAverageStatementsPerCommit(), getMaxStatements());
+  }
+}
@@ -0,0 +1,67 @@
+package model.database;
+
+import java.sql.SQLException;
+
+/**
+ * UnitOfWork groups the database operations of several repository calls into a single transaction,
+ * which is committed once. While a unit of work is open, every connection leased by the
+ * repositories on the same thread is the writer connection of the unit of work, so the repositories
+ * join its transaction and read its uncommitted changes.
+ *
+ * <p>Units of work may be nested: a nested one joins the transaction of the outermost one, and its
+ * commit takes effect only when the outermost unit of work is committed. If a nested unit of work
+ * is closed without being committed, the whole transaction is rolled back.
+ *
+ * <p>It should always be used in a try-with-resources block, calling commit at the end of the
+ * block: closing a unit of work which was not committed rolls back the transaction.
+ */
+public class UnitOfWork implements AutoCloseable {
+  private final Transaction transaction;
+  private final boolean outermost;
+  private boolean committed = false;
+  private boolean closed = false;
+
+  UnitOfWork(Transaction transaction, boolean outermost) {
+    this.transaction = transaction;
+    this.outermost = outermost;
+  }
+
+  /**
+   * Commits the transaction, if this is the outermost unit of work.
+   *
+   * @throws SQLException if the transaction could not be committed, or a nested unit of work was
+   *     closed without being committed.
+   */
+  public void commit() throws SQLException {
+    if (closed) {
+      throw new IllegalStateException("The unit of work has already been closed");
+    }
+    if (outermost) {
+      transaction.commit();
+    }
+    committed = true;
+  }
+
+  /** @return the number of statements executed so far in the transaction of the unit of work. */
+  public int getStatementCount() {
+    return transaction.getStatementCount();
+  }
+
+  /**
+   * Closes the unit of work, rolling back its transaction if it was not committed. Closing it more
+   * than once has no effect.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (!committed) {
+      transaction.markRollbackOnly();
+    }
+    if (outermost) {
+      transaction.end();
+    }
+  }
+}
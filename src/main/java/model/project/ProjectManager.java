@@ -3,6 +3,12 @@ package model.project;
 import model.InexistentDatabaseEntityException;
 import model.Manager;
 import model.UnauthorisedOperationException;
+import model.database.RowVisitor;
+import model.database.UnitOfWork;
+import model.project.events.ProjectCreatedEvent;
+import model.project.events.ProjectDeletedEvent;
+import model.project.events.ProjectStatusChangedEvent;
+import model.project.events.ProjectUpdatedEvent;
 import model.project.exceptions.*;
 import model.team.Team;
 import model.team.exceptions.IllegalMemberRemovalException;
@@ -12,11 +18,13 @@ import model.user.User;
 import model.user.exceptions.EmptyFieldsException;
 import model.user.exceptions.InexistentUserException;
 import model.user.exceptions.NoSignedInUserException;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * ProjectManager is responsible for executing all the commands needed for the application that are
@@ -90,9 +98,8 @@ public class ProjectManager extends Manager {
         new Project.SavableProject(
             projectName, teamId, deadline, currentUser.getId(), assignee.getId(), importance);
     project.setDescription(description);
-    projectRepository.saveProject(project);
-    support.firePropertyChange(
-        ProjectChangeablePropertyName.CREATE_PROJECT.toString(), OLD_VALUE, NEW_VALUE);
+    Project savedProject = projectRepository.saveProject(project);
+    support.fireEvent(new ProjectCreatedEvent(this, savedProject));
   }
 
   /**
@@ -156,8 +163,7 @@ public class ProjectManager extends Manager {
     project.setDeadline(newDeadline);
     project.setImportance(importance);
     projectRepository.updateProject(project);
-    support.firePropertyChange(
-        ProjectChangeablePropertyName.UPDATE_PROJECT.toString(), OLD_VALUE, NEW_VALUE);
+    support.fireEvent(new ProjectUpdatedEvent(this, project));
   }
 
   /**
@@ -179,35 +185,27 @@ public class ProjectManager extends Manager {
     Project project = getMandatoryProject(projectId);
     guaranteeUserIsSupervisor(
         currentUser, project, "delete project", "they are not the " + "supervisor");
-    commentRepository.deleteAllCommentsOfProject(projectId);
-    projectRepository.deleteProject(projectId);
-    support.firePropertyChange(
-        ProjectChangeablePropertyName.DELETE_PROJECT.toString(), OLD_VALUE, NEW_VALUE);
+    try (UnitOfWork unitOfWork = beginUnitOfWork()) {
+      commentRepository.deleteAllCommentsOfProject(projectId);
+      projectRepository.deleteProject(projectId, project.getTeamId());
+      unitOfWork.commit();
+    }
+    support.fireEvent(new ProjectDeletedEvent(this, project));
   }
 
   /**
    * Deletes all the projects of a given team, safely, after first deleting all of its their
-   * comments.
+   * comments. Independently of the number of projects, this takes two statements, committed in a
+   * single transaction, which joins the unit of work of the caller, if there is one.
    *
    * @param teamId is the id of the team whose projects are deleted.
    * @throws SQLException if the operation could not be performed in the database.
-   * @throws InexistentDatabaseEntityException should never occur.
-   * @throws InexistentUserException should never occur.
    */
-  public void deleteAllProjectsOfTeam(int teamId)
-      throws SQLException, InexistentDatabaseEntityException, InexistentUserException {
-    List<Project> projectsOfTeam =
-        getProjectsOfTeam(
-            teamId,
-            null,
-            null,
-            EnumSet.allOf(Project.Status.class),
-            EnumSet.allOf(Project.DeadlineStatus.class),
-            Project.SorterType.NONE,
-            false);
-    for (Project project : projectsOfTeam) {
-      commentRepository.deleteAllCommentsOfProject(project.getId());
-      projectRepository.deleteProject(project.getId());
+  public void deleteAllProjectsOfTeam(int teamId) throws SQLException {
+    try (UnitOfWork unitOfWork = beginUnitOfWork()) {
+      commentRepository.deleteAllCommentsOfTeam(teamId);
+      projectRepository.deleteAllProjectsOfTeam(teamId);
+      unitOfWork.commit();
     }
   }
 
@@ -231,8 +229,7 @@ public class ProjectManager extends Manager {
       throw new IllegalProjectStatusChangeException(
           project.getStatus(), Project.Status.IN_PROGRESS);
     }
-    support.firePropertyChange(
-        ProjectChangeablePropertyName.SET_PROJECT_STATUS.toString(), OLD_VALUE, NEW_VALUE);
+    support.fireEvent(new ProjectStatusChangedEvent(this, project));
   }
 
   /**
@@ -266,8 +263,7 @@ public class ProjectManager extends Manager {
     } else {
       throw new IllegalProjectStatusChangeException(project.getStatus(), Project.Status.TO_DO);
     }
-    support.firePropertyChange(
-        ProjectChangeablePropertyName.SET_PROJECT_STATUS.toString(), OLD_VALUE, NEW_VALUE);
+    support.fireEvent(new ProjectStatusChangedEvent(this, project));
   }
 
   /**
@@ -301,8 +297,7 @@ public class ProjectManager extends Manager {
     } else {
       throw new IllegalProjectStatusChangeException(project.getStatus(), Project.Status.TURNED_IN);
     }
-    support.firePropertyChange(
-        ProjectChangeablePropertyName.SET_PROJECT_STATUS.toString(), OLD_VALUE, NEW_VALUE);
+    support.fireEvent(new ProjectStatusChangedEvent(this, project));
   }
 
   /**
@@ -340,8 +335,7 @@ public class ProjectManager extends Manager {
     } else {
       throw new IllegalProjectStatusChangeException(project.getStatus(), newStatus);
     }
-    support.firePropertyChange(
-        ProjectChangeablePropertyName.SET_PROJECT_STATUS.toString(), OLD_VALUE, NEW_VALUE);
+    support.fireEvent(new ProjectStatusChangedEvent(this, project));
   }
 
   /**
@@ -374,8 +368,7 @@ public class ProjectManager extends Manager {
     } else {
       throw new IllegalProjectStatusChangeException(project.getStatus(), Project.Status.FINISHED);
     }
-    support.firePropertyChange(
-        ProjectChangeablePropertyName.SET_PROJECT_STATUS.toString(), OLD_VALUE, NEW_VALUE);
+    support.fireEvent(new ProjectStatusChangedEvent(this, project));
   }
 
   /**
@@ -413,8 +406,7 @@ public class ProjectManager extends Manager {
     } else {
       throw new IllegalProjectStatusChangeException(project.getStatus(), newStatus);
     }
-    support.firePropertyChange(
-        ProjectChangeablePropertyName.SET_PROJECT_STATUS.toString(), OLD_VALUE, NEW_VALUE);
+    support.fireEvent(new ProjectStatusChangedEvent(this, project));
   }
 
   /**
@@ -511,6 +503,96 @@ public class ProjectManager extends Manager {
         descending);
   }
 
+  /**
+   * Returns a page of the projects which getProjects would return with the same criteria, ordered
+   * by the sort column and then by their id. The pages are read by seeking past the last project of
+   * the previous page, so reading a page takes the same time regardless of its position.
+   *
+   * @param lastProjectOfPreviousPage is the last project of the previous page, or null for the
+   *     first page.
+   * @param pageSize is the maximal number of returned projects.
+   * @return the projects of the page. If there are fewer than pageSize, this is the last page.
+   * @throws SQLException if the operations could not be performed in the database.
+   * @throws InexistentDatabaseEntityException should never occur.
+   * @throws NoSignedInUserException if there is noone signed in.
+   */
+  public List<Project> getProjectsPage(
+      boolean assignedToCurrentUser,
+      boolean supervisedByCurrentUser,
+      EnumSet<Project.Status> allowedStatuses,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending,
+      @Nullable Project lastProjectOfPreviousPage,
+      int pageSize)
+      throws NoSignedInUserException, InexistentDatabaseEntityException, SQLException {
+    User currentUser = getMandatoryCurrentUser();
+    Integer assigneeId = null;
+    if (assignedToCurrentUser) {
+      assigneeId = currentUser.getId();
+    }
+    Integer supervisorId = null;
+    if (supervisedByCurrentUser) {
+      supervisorId = currentUser.getId();
+    }
+    return projectRepository.getProjectsPage(
+        allowedStatuses,
+        assigneeId,
+        supervisorId,
+        allowedDeadlineStatuses,
+        sorterType,
+        descending,
+        lastProjectOfPreviousPage,
+        pageSize);
+  }
+
+  /**
+   * Returns a page of the projects which getProjectsOfTeam would return with the same criteria,
+   * ordered by the sort column and then by their id. The pages are read by seeking past the last
+   * project of the previous page, so reading a page takes the same time regardless of its position.
+   *
+   * @param lastProjectOfPreviousPage is the last project of the previous page, or null for the
+   *     first page.
+   * @param pageSize is the maximal number of returned projects.
+   * @return the projects of the page. If there are fewer than pageSize, this is the last page.
+   * @throws SQLException if the operations could not be performed in the database.
+   * @throws InexistentDatabaseEntityException should never occur.
+   * @throws InexistentUserException if the user with assigneeName or supervisorName does not exist
+   *     in the database.
+   */
+  public List<Project> getProjectsOfTeamPage(
+      int teamId,
+      String supervisorName,
+      String assigneeName,
+      EnumSet<Project.Status> allowedStatuses,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending,
+      @Nullable Project lastProjectOfPreviousPage,
+      int pageSize)
+      throws InexistentDatabaseEntityException, SQLException, InexistentUserException {
+    Integer assigneeId = null;
+    if (assigneeName != null) {
+      User assignee = getMandatoryUser(assigneeName);
+      assigneeId = assignee.getId();
+    }
+    Integer supervisorId = null;
+    if (supervisorName != null) {
+      User supervisor = getMandatoryUser(supervisorName);
+      supervisorId = supervisor.getId();
+    }
+    return projectRepository.getProjectsOfTeamPage(
+        teamId,
+        allowedStatuses,
+        assigneeId,
+        supervisorId,
+        allowedDeadlineStatuses,
+        sorterType,
+        descending,
+        lastProjectOfPreviousPage,
+        pageSize);
+  }
+
   private void guaranteeUserIsSupervisor(
       User user, Project project, String operation, String reason)
       throws InexistentDatabaseEntityException, UnauthorisedOperationException {
@@ -599,25 +681,37 @@ public class ProjectManager extends Manager {
   public void guaranteeNoUnfinishedAssignedOrSupervisedProjects(String member, int teamId)
       throws SQLException, InexistentDatabaseEntityException, InexistentUserException,
           IllegalMemberRemovalException {
-    List<Project> unFinishedAssignedProjects =
-        getProjectsOfTeam(
-            teamId,
-            null,
-            member,
-            EnumSet.range(Project.Status.TO_DO, Project.Status.TURNED_IN),
-            EnumSet.allOf(Project.DeadlineStatus.class),
-            Project.SorterType.NONE,
-            false);
-    List<Project> unFinishedSupervisedProjects =
-        getProjectsOfTeam(
-            teamId,
-            member,
-            null,
-            EnumSet.range(Project.Status.TO_DO, Project.Status.TURNED_IN),
-            EnumSet.allOf(Project.DeadlineStatus.class),
-            Project.SorterType.NONE,
-            false);
-    if (!unFinishedAssignedProjects.isEmpty() || !unFinishedSupervisedProjects.isEmpty()) {
+    User user = getMandatoryUser(member);
+    EnumSet<Project.Status> unfinishedStatuses =
+        EnumSet.range(Project.Status.TO_DO, Project.Status.TURNED_IN);
+    // a single unfinished project is enough, so the reading stops at the first one
+    AtomicBoolean hasUnfinishedProjects = new AtomicBoolean(false);
+    RowVisitor<Project> stopAtFirstProject =
+        project -> {
+          hasUnfinishedProjects.set(true);
+          return false;
+        };
+    projectRepository.visitProjectsOfTeam(
+        teamId,
+        unfinishedStatuses,
+        user.getId(),
+        null,
+        EnumSet.allOf(Project.DeadlineStatus.class),
+        Project.SorterType.NONE,
+        false,
+        stopAtFirstProject);
+    if (!hasUnfinishedProjects.get()) {
+      projectRepository.visitProjectsOfTeam(
+          teamId,
+          unfinishedStatuses,
+          null,
+          user.getId(),
+          EnumSet.allOf(Project.DeadlineStatus.class),
+          Project.SorterType.NONE,
+          false,
+          stopAtFirstProject);
+    }
+    if (hasUnfinishedProjects.get()) {
       throw new IllegalMemberRemovalException(member);
     }
   }
@@ -0,0 +1,22 @@
+package model.project.events;
+
+import model.EntityChangeEvent;
+import model.project.Project;
+
+import java.util.Map;
+
+/**
+ * ProjectChangeEvent is the common type of the events fired by the ProjectManager. The change of
+ * each project is the project after the change, or before the deletion, so the listeners can also
+ * tell to which team it belongs.
+ */
+public abstract class ProjectChangeEvent extends EntityChangeEvent<Project> {
+  protected ProjectChangeEvent(Object source, String propertyName, Map<Integer, Project> changes) {
+    super(source, propertyName, changes);
+  }
+
+  /** @return true if one of the changed projects belongs to the team with teamId. */
+  public boolean concernsTeam(int teamId) {
+    return getChanges().values().stream().anyMatch(project -> project.getTeamId() == teamId);
+  }
+}
@@ -0,0 +1,27 @@
+package model.project.events;
+
+import model.InexistentDatabaseEntityException;
+import model.project.Project;
+import model.project.ProjectManager;
+
+import java.util.Map;
+
+/**
+ * ProjectCreatedEvent is fired by the ProjectManager when a project is created. The change of the
+ * project is the saved project.
+ */
+public class ProjectCreatedEvent extends ProjectChangeEvent {
+  public ProjectCreatedEvent(Object source, Project project)
+      throws InexistentDatabaseEntityException {
+    this(source, Map.of(project.getId(), project));
+  }
+
+  private ProjectCreatedEvent(Object source, Map<Integer, Project> changes) {
+    super(source, ProjectManager.ProjectChangeablePropertyName.CREATE_PROJECT.toString(), changes);
+  }
+
+  @Override
+  protected ProjectCreatedEvent withChanges(Map<Integer, Project> changes) {
+    return new ProjectCreatedEvent(getSource(), changes);
+  }
+}
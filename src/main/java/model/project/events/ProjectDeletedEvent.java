@@ -0,0 +1,27 @@
+package model.project.events;
+
+import model.InexistentDatabaseEntityException;
+import model.project.Project;
+import model.project.ProjectManager;
+
+import java.util.Map;
+
+/**
+ * ProjectDeletedEvent is fired by the ProjectManager when a project is deleted, with its comments.
+ * The change of the project is the project as it was before its deletion.
+ */
+public class ProjectDeletedEvent extends ProjectChangeEvent {
+  public ProjectDeletedEvent(Object source, Project project)
+      throws InexistentDatabaseEntityException {
+    this(source, Map.of(project.getId(), project));
+  }
+
+  private ProjectDeletedEvent(Object source, Map<Integer, Project> changes) {
+    super(source, ProjectManager.ProjectChangeablePropertyName.DELETE_PROJECT.toString(), changes);
+  }
+
+  @Override
+  protected ProjectDeletedEvent withChanges(Map<Integer, Project> changes) {
+    return new ProjectDeletedEvent(getSource(), changes);
+  }
+}
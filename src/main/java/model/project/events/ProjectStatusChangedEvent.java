@@ -0,0 +1,30 @@
+package model.project.events;
+
+import model.InexistentDatabaseEntityException;
+import model.project.Project;
+import model.project.ProjectManager;
+
+import java.util.Map;
+
+/**
+ * ProjectStatusChangedEvent is fired by the ProjectManager when the status of a project changes.
+ * The change of the project is the project with its new status.
+ */
+public class ProjectStatusChangedEvent extends ProjectChangeEvent {
+  public ProjectStatusChangedEvent(Object source, Project project)
+      throws InexistentDatabaseEntityException {
+    this(source, Map.of(project.getId(), project));
+  }
+
+  private ProjectStatusChangedEvent(Object source, Map<Integer, Project> changes) {
+    super(
+        source,
+        ProjectManager.ProjectChangeablePropertyName.SET_PROJECT_STATUS.toString(),
+        changes);
+  }
+
+  @Override
+  protected ProjectStatusChangedEvent withChanges(Map<Integer, Project> changes) {
+    return new ProjectStatusChangedEvent(getSource(), changes);
+  }
+}
@@ -0,0 +1,27 @@
+package model.project.events;
+
+import model.InexistentDatabaseEntityException;
+import model.project.Project;
+import model.project.ProjectManager;
+
+import java.util.Map;
+
+/**
+ * ProjectUpdatedEvent is fired by the ProjectManager when the data of a project is updated. The
+ * change of the project is the updated project.
+ */
+public class ProjectUpdatedEvent extends ProjectChangeEvent {
+  public ProjectUpdatedEvent(Object source, Project project)
+      throws InexistentDatabaseEntityException {
+    this(source, Map.of(project.getId(), project));
+  }
+
+  private ProjectUpdatedEvent(Object source, Map<Integer, Project> changes) {
+    super(source, ProjectManager.ProjectChangeablePropertyName.UPDATE_PROJECT.toString(), changes);
+  }
+
+  @Override
+  protected ProjectUpdatedEvent withChanges(Map<Integer, Project> changes) {
+    return new ProjectUpdatedEvent(getSource(), changes);
+  }
+}
@@ -1,7 +1,9 @@
 package model.project.repository;
 
 import model.InexistentDatabaseEntityException;
+import model.database.RowVisitor;
 import model.project.Project;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.SQLException;
 import java.util.EnumSet;
@@ -17,14 +19,13 @@ import java.util.Optional;
 public interface ProjectRepository {
 
   /**
-   * Saves the project in the database and assigns it an id, which is returned.
+   * Saves the project in the database and assigns it an id.
    *
    * @param project is the project to save.
-   * @return the id of the newly saved project in the database.
+   * @return the newly saved project, with its id in the database.
    * @throws SQLException if the operations could not be performed in the database.
    */
-  int saveProject(Project.SavableProject project)
-      throws SQLException, InexistentDatabaseEntityException;
+  Project saveProject(Project.SavableProject project) throws SQLException;
 
   /**
    * Finds the project with the given id and returns it, if it exists.
@@ -58,12 +59,22 @@ public interface ProjectRepository {
 
   /**
    * Deletes the project with the specified id from the database. Requirement: any entities having
-   * foreign keys to these projects must already be deleted.
+   * foreign keys to this project must already be deleted.
    *
    * @param projectId is the id of the project to delete.
+   * @param teamId is the id of the team of the project.
+   * @throws SQLException if the operation could not be performed in the database.
+   */
+  void deleteProject(int projectId, int teamId) throws SQLException;
+
+  /**
+   * Deletes all the projects of the given team from the database, with a single statement.
+   * Requirement: any entities having foreign keys to these projects must already be deleted.
+   *
+   * @param teamId is the id of the team whose projects are deleted.
    * @throws SQLException if the operation could not be performed in the database.
    */
-  void deleteProject(int projectId) throws SQLException;
+  void deleteAllProjectsOfTeam(int teamId) throws SQLException;
 
   /**
    * Returns a list of all the projects in the team with teamId, assigned to a user with assigneeId,
@@ -128,4 +139,117 @@ public interface ProjectRepository {
       Project.SorterType sorterType,
       boolean descending)
       throws SQLException;
+
+  /**
+   * Passes the projects of the team with teamId fulfilling the same criteria as in
+   * getProjectsOfTeam to the visitor one by one, while they are read from the database, without
+   * collecting them in a list.
+   *
+   * @param teamId is the id of the team whose projects are visited.
+   * @param allowedStatuses is the set of the statuses allowed for the visited projects.
+   * @param assigneeId is an optional parameter. If it is null, it doesn't count.
+   * @param supervisorId is an optional parameter. If it is null, it doesn't count.
+   * @param allowedDeadlineStatuses is the set of deadline statuses which are allowed.
+   * @param sorterType specifies by which attribute the projects must be sorted.
+   * @param descending specifies the order of sorting.
+   * @param visitor receives the projects, and it can stop the reading by returning false.
+   * @throws SQLException if the operations could not be performed in the database, or the visitor
+   *     failed.
+   */
+  void visitProjectsOfTeam(
+      int teamId,
+      EnumSet<Project.Status> allowedStatuses,
+      Integer assigneeId,
+      Integer supervisorId,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending,
+      RowVisitor<Project> visitor)
+      throws SQLException;
+
+  /**
+   * Passes the projects fulfilling the same criteria as in getProjects to the visitor one by one,
+   * while they are read from the database, without collecting them in a list.
+   *
+   * @param allowedStatuses is the set of the statuses allowed for the visited projects.
+   * @param assigneeId is an optional parameter. If it is null, it doesn't count.
+   * @param supervisorId is an optional parameter. If it is null, it doesn't count.
+   * @param allowedDeadlineStatuses is the set of deadline statuses which are allowed.
+   * @param sorterType specifies by which attribute the projects must be sorted.
+   * @param descending specifies the order of sorting.
+   * @param visitor receives the projects, and it can stop the reading by returning false.
+   * @throws SQLException if the operations could not be performed in the database, or the visitor
+   *     failed.
+   */
+  void visitProjects(
+      EnumSet<Project.Status> allowedStatuses,
+      Integer assigneeId,
+      Integer supervisorId,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending,
+      RowVisitor<Project> visitor)
+      throws SQLException;
+
+  /**
+   * Returns a page of the projects of the team with teamId fulfilling the same criteria as in
+   * getProjectsOfTeam. The projects are ordered by the sort column and then by their id, and the
+   * page starts right after lastProjectOfPreviousPage in this order.
+   *
+   * @param teamId is the id of the team whose projects are returned.
+   * @param allowedStatuses is the set of the statuses allowed for the returned projects.
+   * @param assigneeId is an optional parameter. If it is null, it doesn't count.
+   * @param supervisorId is an optional parameter. If it is null, it doesn't count.
+   * @param allowedDeadlineStatuses is the set of deadline statuses which are allowed in the query
+   *     result.
+   * @param sorterType specifies by which attribute the projects must be sorted.
+   * @param descending specifies the order of sorting.
+   * @param lastProjectOfPreviousPage is the last project of the previous page, or null for the
+   *     first page.
+   * @param pageSize is the maximal number of returned projects.
+   * @return the projects of the page. If there are fewer than pageSize, this is the last page.
+   * @throws SQLException if the operations could not be performed in the database.
+   * @throws InexistentDatabaseEntityException if lastProjectOfPreviousPage has no id.
+   */
+  List<Project> getProjectsOfTeamPage(
+      int teamId,
+      EnumSet<Project.Status> allowedStatuses,
+      Integer assigneeId,
+      Integer supervisorId,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending,
+      @Nullable Project lastProjectOfPreviousPage,
+      int pageSize)
+      throws SQLException, InexistentDatabaseEntityException;
+
+  /**
+   * Returns a page of the projects fulfilling the same criteria as in getProjects. The projects are
+   * ordered by the sort column and then by their id, and the page starts right after
+   * lastProjectOfPreviousPage in this order.
+   *
+   * @param allowedStatuses is the set of the statuses allowed for the returned projects.
+   * @param assigneeId is an optional parameter. If it is null, it doesn't count.
+   * @param supervisorId is an optional parameter. If it is null, it doesn't count.
+   * @param allowedDeadlineStatuses is the set of deadline statuses which are allowed in the query
+   *     result.
+   * @param sorterType specifies by which attribute the projects must be sorted.
+   * @param descending specifies the order of sorting.
+   * @param lastProjectOfPreviousPage is the last project of the previous page, or null for the
+   *     first page.
+   * @param pageSize is the maximal number of returned projects.
+   * @return the projects of the page. If there are fewer than pageSize, this is the last page.
+   * @throws SQLException if the operations could not be performed in the database.
+   * @throws InexistentDatabaseEntityException if lastProjectOfPreviousPage has no id.
+   */
+  List<Project> getProjectsPage(
+      EnumSet<Project.Status> allowedStatuses,
+      Integer assigneeId,
+      Integer supervisorId,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending,
+      @Nullable Project lastProjectOfPreviousPage,
+      int pageSize)
+      throws SQLException, InexistentDatabaseEntityException;
 }
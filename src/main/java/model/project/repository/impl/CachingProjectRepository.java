@@ -0,0 +1,386 @@
+package model.project.repository.impl;
+
+import model.InexistentDatabaseEntityException;
+import model.database.CacheStatistics;
+import model.database.RowVisitor;
+import model.database.SqliteConnectionPool;
+import model.project.Project;
+import model.project.repository.ProjectRepository;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * CachingProjectRepository is a ProjectRepository which keeps the results of the filtered project
+ * queries, and delegates everything else to another ProjectRepository. When the same filter is
+ * applied again, for example because a project of another team changed, the projects are returned
+ * without querying the database.
+ *
+ * <p>The results are keyed by all the criteria of the query, including the current date, on which
+ * the deadline statuses depend. Each write through this repository invalidates the results of the
+ * team of the written projects, and the results which span all teams, right after the unit of work
+ * of the write ends, when its changes are visible to all connections. Queries made inside a unit of
+ * work bypass the cache, since they see its uncommitted changes.
+ *
+ * <p>The number of results is bounded: the least recently used one is evicted when the cache is
+ * full. The returned lists are copies, but the projects in them are shared, so they must not be
+ * modified by the callers.
+ *
+ * <p>Implemented with the singleton pattern.
+ */
+public class CachingProjectRepository implements ProjectRepository {
+  protected static CachingProjectRepository instance;
+
+  // The maximal number of cached results.
+  private static final int CAPACITY = 256;
+
+  private final ProjectRepository repository;
+  private final SqliteConnectionPool connectionPool = SqliteConnectionPool.getInstance();
+  private final CacheStatistics statistics = new CacheStatistics();
+
+  // The cached results in access order. The first element of each key is the id of the team of the
+  // query, or null if the query spans all teams.
+  private final Map<List<Object>, List<Project>> results =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, List<Project>> eldest) {
+          if (size() > CAPACITY) {
+            statistics.recordEviction();
+            return true;
+          }
+          return false;
+        }
+      };
+  // Incremented by each invalidation, so a query which overlapped with a write is not cached.
+  private long version = 0;
+
+  private CachingProjectRepository(ProjectRepository repository) {
+    this.repository = repository;
+  }
+
+  /** Implemented with the singleton pattern. */
+  public static CachingProjectRepository getInstance() {
+    if (instance == null) {
+      instance = new CachingProjectRepository(SqliteProjectRepository.getInstance());
+    }
+    return instance;
+  }
+
+  /** @return the hit, miss, eviction and invalidation counters of the cache. */
+  public CacheStatistics getStatistics() {
+    return statistics;
+  }
+
+  @Override
+  public Project saveProject(Project.SavableProject project) throws SQLException {
+    Project savedProject = repository.saveProject(project);
+    invalidateTeam(project.getTeamId());
+    return savedProject;
+  }
+
+  @Override
+  public Optional<Project> getProject(int projectId) throws SQLException {
+    return repository.getProject(projectId);
+  }
+
+  @Override
+  public Optional<Project> getProject(int teamId, String name) throws SQLException {
+    return repository.getProject(teamId, name);
+  }
+
+  @Override
+  public void updateProject(Project project)
+      throws SQLException, InexistentDatabaseEntityException {
+    repository.updateProject(project);
+    invalidateTeam(project.getTeamId());
+  }
+
+  @Override
+  public void deleteProject(int projectId, int teamId) throws SQLException {
+    repository.deleteProject(projectId, teamId);
+    invalidateTeam(teamId);
+  }
+
+  @Override
+  public void deleteAllProjectsOfTeam(int teamId) throws SQLException {
+    repository.deleteAllProjectsOfTeam(teamId);
+    invalidateTeam(teamId);
+  }
+
+  @Override
+  public List<Project> getProjectsOfTeam(
+      int teamId,
+      EnumSet<Project.Status> allowedStatuses,
+      Integer assigneeId,
+      Integer supervisorId,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending)
+      throws SQLException {
+    List<Object> key =
+        getKey(
+            teamId,
+            allowedStatuses,
+            assigneeId,
+            supervisorId,
+            allowedDeadlineStatuses,
+            sorterType,
+            descending);
+    return getCachedProjects(
+        key,
+        () ->
+            repository.getProjectsOfTeam(
+                teamId,
+                allowedStatuses,
+                assigneeId,
+                supervisorId,
+                allowedDeadlineStatuses,
+                sorterType,
+                descending));
+  }
+
+  @Override
+  public List<Project> getProjects(
+      EnumSet<Project.Status> allowedStatuses,
+      Integer assigneeId,
+      Integer supervisorId,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending)
+      throws SQLException {
+    List<Object> key =
+        getKey(
+            null,
+            allowedStatuses,
+            assigneeId,
+            supervisorId,
+            allowedDeadlineStatuses,
+            sorterType,
+            descending);
+    return getCachedProjects(
+        key,
+        () ->
+            repository.getProjects(
+                allowedStatuses,
+                assigneeId,
+                supervisorId,
+                allowedDeadlineStatuses,
+                sorterType,
+                descending));
+  }
+
+  @Override
+  public void visitProjectsOfTeam(
+      int teamId,
+      EnumSet<Project.Status> allowedStatuses,
+      Integer assigneeId,
+      Integer supervisorId,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending,
+      RowVisitor<Project> visitor)
+      throws SQLException {
+    repository.visitProjectsOfTeam(
+        teamId,
+        allowedStatuses,
+        assigneeId,
+        supervisorId,
+        allowedDeadlineStatuses,
+        sorterType,
+        descending,
+        visitor);
+  }
+
+  @Override
+  public void visitProjects(
+      EnumSet<Project.Status> allowedStatuses,
+      Integer assigneeId,
+      Integer supervisorId,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending,
+      RowVisitor<Project> visitor)
+      throws SQLException {
+    repository.visitProjects(
+        allowedStatuses,
+        assigneeId,
+        supervisorId,
+        allowedDeadlineStatuses,
+        sorterType,
+        descending,
+        visitor);
+  }
+
+  @Override
+  public List<Project> getProjectsOfTeamPage(
+      int teamId,
+      EnumSet<Project.Status> allowedStatuses,
+      Integer assigneeId,
+      Integer supervisorId,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending,
+      @Nullable Project lastProjectOfPreviousPage,
+      int pageSize)
+      throws SQLException, InexistentDatabaseEntityException {
+    List<Object> key =
+        getKey(
+            teamId,
+            allowedStatuses,
+            assigneeId,
+            supervisorId,
+            allowedDeadlineStatuses,
+            sorterType,
+            descending);
+    key.add(getPageKey(lastProjectOfPreviousPage, pageSize));
+    return getCachedPage(
+        key,
+        () ->
+            repository.getProjectsOfTeamPage(
+                teamId,
+                allowedStatuses,
+                assigneeId,
+                supervisorId,
+                allowedDeadlineStatuses,
+                sorterType,
+                descending,
+                lastProjectOfPreviousPage,
+                pageSize));
+  }
+
+  @Override
+  public List<Project> getProjectsPage(
+      EnumSet<Project.Status> allowedStatuses,
+      Integer assigneeId,
+      Integer supervisorId,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending,
+      @Nullable Project lastProjectOfPreviousPage,
+      int pageSize)
+      throws SQLException, InexistentDatabaseEntityException {
+    List<Object> key =
+        getKey(
+            null,
+            allowedStatuses,
+            assigneeId,
+            supervisorId,
+            allowedDeadlineStatuses,
+            sorterType,
+            descending);
+    key.add(getPageKey(lastProjectOfPreviousPage, pageSize));
+    return getCachedPage(
+        key,
+        () ->
+            repository.getProjectsPage(
+                allowedStatuses,
+                assigneeId,
+                supervisorId,
+                allowedDeadlineStatuses,
+                sorterType,
+                descending,
+                lastProjectOfPreviousPage,
+                pageSize));
+  }
+
+  /** A query whose result can be cached. */
+  private interface ProjectQuery {
+    List<Project> run() throws SQLException, InexistentDatabaseEntityException;
+  }
+
+  private List<Project> getCachedProjects(List<Object> key, ProjectQuery query)
+      throws SQLException {
+    try {
+      return getCachedPage(key, query);
+    } catch (InexistentDatabaseEntityException e) {
+      // only the keyset of a page refers to a project
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private List<Project> getCachedPage(List<Object> key, ProjectQuery query)
+      throws SQLException, InexistentDatabaseEntityException {
+    if (connectionPool.isInUnitOfWork()) {
+      return query.run();
+    }
+    long versionBeforeQuery;
+    synchronized (this) {
+      List<Project> cachedProjects = results.get(key);
+      if (cachedProjects != null) {
+        statistics.recordHit();
+        return new ArrayList<>(cachedProjects);
+      }
+      versionBeforeQuery = version;
+    }
+    statistics.recordMiss();
+    List<Project> projects = query.run();
+    synchronized (this) {
+      if (version == versionBeforeQuery) {
+        results.put(key, List.copyOf(projects));
+      }
+    }
+    return projects;
+  }
+
+  private void invalidateTeam(int teamId) {
+    connectionPool.runAfterUnitOfWork(() -> invalidate(teamId));
+  }
+
+  /** Removes the results of the team with teamId, and the results which span all teams. */
+  private synchronized void invalidate(int teamId) {
+    version++;
+    int invalidatedCount = 0;
+    Iterator<List<Object>> keys = results.keySet().iterator();
+    while (keys.hasNext()) {
+      Object keyTeamId = keys.next().get(0);
+      if (keyTeamId == null || keyTeamId.equals(teamId)) {
+        keys.remove();
+        invalidatedCount++;
+      }
+    }
+    statistics.recordInvalidations(invalidatedCount);
+  }
+
+  private static List<Object> getKey(
+      @Nullable Integer teamId,
+      EnumSet<Project.Status> allowedStatuses,
+      Integer assigneeId,
+      Integer supervisorId,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending) {
+    return new ArrayList<>(
+        Arrays.asList(
+            teamId,
+            EnumSet.copyOf(allowedStatuses),
+            assigneeId,
+            supervisorId,
+            EnumSet.copyOf(allowedDeadlineStatuses),
+            sorterType,
+            descending,
+            LocalDate.now()));
+  }
+
+  private static List<Object> getPageKey(@Nullable Project lastProjectOfPreviousPage, int pageSize)
+      throws InexistentDatabaseEntityException {
+    if (lastProjectOfPreviousPage == null) {
+      return Arrays.asList(null, pageSize);
+    }
+    // all the attributes which can be sort keys of the page
+    return Arrays.asList(
+        lastProjectOfPreviousPage.getId(),
+        lastProjectOfPreviousPage.getDeadline(),
+        lastProjectOfPreviousPage.getStatus(),
+        lastProjectOfPreviousPage.getImportance(),
+        pageSize);
+  }
+}
@@ -0,0 +1,277 @@
+package model.project.repository.impl;
+
+import model.InexistentDatabaseEntityException;
+import model.database.LookupTable;
+import model.project.Project;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ProjectFilterQuery holds the criteria of a filtered project query and compiles them into sql.
+ * Only the criteria which actually constrain the result are compiled into predicates, without
+ * wildcards depending on the parameters, so the query planner of sqlite can choose the index of the
+ * most selective one: TeamId, AssigneeId, SupervisorId, an IN list of the allowed status ids, or
+ * the (CompletionState, Deadline) ranges of the allowed deadline statuses.
+ *
+ * <p>The sql depends only on the shape of the criteria (which ones are set, and how many statuses
+ * are allowed), not on their values, so the compiled sql of each shape is cached, and the prepared
+ * statement of the shape is reused by the statement cache of the connections.
+ *
+ * <p>A query can be restricted to a page of the result with restrictToPage. The pages are read with
+ * keyset pagination: the projects are ordered by (sort column, ProjectId), and each page seeks past
+ * the key of the last project of the previous page, instead of skipping an offset. So reading a
+ * page costs the same regardless of how many pages were read before it, and projects inserted or
+ * deleted meanwhile do not shift the following pages.
+ */
+class ProjectFilterQuery {
+  private static final String SELECT_PROJECTS =
+      "SELECT ProjectId, Name, TeamId, Description, Deadline, AssigneeId, SupervisorId, "
+          + "StatusId, FinishingDate, ImportanceId FROM Project p";
+
+  // The values of the CompletionState column.
+  private static final int UNFINISHED = 0;
+  private static final int FINISHED_IN_TIME = 1;
+  private static final int FINISHED_LATE = 2;
+
+  // The compiled sql of each shape of criteria.
+  private static final Map<List<Object>, String> compiledShapes = new ConcurrentHashMap<>();
+
+  private final @Nullable Integer teamId;
+  private final EnumSet<Project.Status> allowedStatuses;
+  private final @Nullable Integer assigneeId;
+  private final @Nullable Integer supervisorId;
+  private final EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses;
+  private final Project.SorterType sorterType;
+  private final boolean descending;
+  private @Nullable Project lastProjectOfPreviousPage = null;
+  private int pageSize = 0;
+
+  /**
+   * @param teamId is the id of the team of the projects, or null if the projects of all teams are
+   *     queried.
+   * @param allowedStatuses is the set of the allowed statuses.
+   * @param assigneeId is the id of the assignee of the projects, or null if it doesn't count.
+   * @param supervisorId is the id of the supervisor of the projects, or null if it doesn't count.
+   * @param allowedDeadlineStatuses is the set of the allowed statuses with respect to the deadline.
+   * @param sorterType specifies by which attribute the projects are sorted.
+   * @param descending specifies whether the projects are sorted in descending order.
+   */
+  ProjectFilterQuery(
+      @Nullable Integer teamId,
+      EnumSet<Project.Status> allowedStatuses,
+      @Nullable Integer assigneeId,
+      @Nullable Integer supervisorId,
+      EnumSet<Project.DeadlineStatus> allowedDeadlineStatuses,
+      Project.SorterType sorterType,
+      boolean descending) {
+    this.teamId = teamId;
+    this.allowedStatuses = EnumSet.copyOf(allowedStatuses);
+    this.assigneeId = assigneeId;
+    this.supervisorId = supervisorId;
+    this.allowedDeadlineStatuses =
+        allowedDeadlineStatuses.isEmpty()
+            ? EnumSet.noneOf(Project.DeadlineStatus.class)
+            : EnumSet.copyOf(allowedDeadlineStatuses);
+    this.sorterType = sorterType;
+    // without a sort column, the order does not count
+    this.descending = descending && sorterType != Project.SorterType.NONE;
+  }
+
+  /**
+   * Restricts the query to a single page of its result.
+   *
+   * @param lastProjectOfPreviousPage is the last project of the previous page, or null if the first
+   *     page is queried.
+   * @param pageSize is the maximal number of projects on the page.
+   */
+  void restrictToPage(@Nullable Project lastProjectOfPreviousPage, int pageSize) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("The page size must be positive: " + pageSize);
+    }
+    this.lastProjectOfPreviousPage = lastProjectOfPreviousPage;
+    this.pageSize = pageSize;
+  }
+
+  /** @return the sql of the query, with a parameter for each value of the criteria. */
+  String getSql() {
+    return compiledShapes.computeIfAbsent(getShape(), shape -> compile());
+  }
+
+  /**
+   * Binds the values of the criteria to the parameters of the statement prepared from getSql, in
+   * the order in which compile emits the predicates.
+   *
+   * @param statement is the statement prepared from the sql of this query.
+   * @param statuses is the dictionary of the ids of the statuses.
+   * @param importances is the dictionary of the ids of the importances.
+   * @throws SQLException if the parameters could not be set.
+   * @throws InexistentDatabaseEntityException if the last project of the previous page was not read
+   *     from the database.
+   */
+  void bindParameters(
+      PreparedStatement statement,
+      LookupTable<Project.Status> statuses,
+      LookupTable<Project.Importance> importances)
+      throws SQLException, InexistentDatabaseEntityException {
+    int parameterIndex = 1;
+    if (teamId != null) {
+      statement.setInt(parameterIndex++, teamId);
+    }
+    if (supervisorId != null) {
+      statement.setInt(parameterIndex++, supervisorId);
+    }
+    if (assigneeId != null) {
+      statement.setInt(parameterIndex++, assigneeId);
+    }
+    if (isConstrained(allowedStatuses, Project.Status.class)) {
+      for (Project.Status status : allowedStatuses) {
+        statement.setInt(parameterIndex++, statuses.getId(status));
+      }
+    }
+    if (isConstrained(allowedDeadlineStatuses, Project.DeadlineStatus.class)
+        && allowsExactlyOneOfInTimeAndOverdue()) {
+      statement.setLong(parameterIndex++, LocalDate.now().toEpochDay());
+    }
+    if (lastProjectOfPreviousPage != null) {
+      switch (sorterType) {
+        case DEADLINE:
+          statement.setLong(parameterIndex++, lastProjectOfPreviousPage.getDeadline().toEpochDay());
+          break;
+        case STATUS:
+          statement.setInt(parameterIndex++, statuses.getId(lastProjectOfPreviousPage.getStatus()));
+          break;
+        case IMPORTANCE:
+          statement.setInt(
+              parameterIndex++, importances.getId(lastProjectOfPreviousPage.getImportance()));
+          break;
+        default:
+          break;
+      }
+      statement.setInt(parameterIndex++, lastProjectOfPreviousPage.getId());
+    }
+    if (pageSize > 0) {
+      statement.setInt(parameterIndex, pageSize);
+    }
+  }
+
+  private List<Object> getShape() {
+    return Arrays.asList(
+        teamId != null,
+        supervisorId != null,
+        assigneeId != null,
+        isConstrained(allowedStatuses, Project.Status.class) ? allowedStatuses.size() : -1,
+        allowedDeadlineStatuses,
+        sorterType,
+        descending,
+        pageSize > 0,
+        lastProjectOfPreviousPage != null);
+  }
+
+  private String compile() {
+    List<String> predicates = new ArrayList<>();
+    if (teamId != null) {
+      predicates.add("p.TeamId = ?");
+    }
+    if (supervisorId != null) {
+      predicates.add("p.SupervisorId = ?");
+    }
+    if (assigneeId != null) {
+      predicates.add("p.AssigneeId = ?");
+    }
+    if (isConstrained(allowedStatuses, Project.Status.class)) {
+      predicates.add(getStatusPredicate());
+    }
+    if (isConstrained(allowedDeadlineStatuses, Project.DeadlineStatus.class)) {
+      predicates.add(getDeadlineStatusPredicate());
+    }
+    if (lastProjectOfPreviousPage != null) {
+      predicates.add(getKeysetPredicate());
+    }
+    StringBuilder sql = new StringBuilder(SELECT_PROJECTS);
+    if (!predicates.isEmpty()) {
+      sql.append(" WHERE ").append(String.join(" AND ", predicates));
+    }
+    if (pageSize > 0) {
+      // ProjectId breaks the ties of the sort column, so the order of the pages is total
+      List<String> orderedColumns = new ArrayList<>();
+      for (String column : getKeyColumns()) {
+        orderedColumns.add(descending ? column + " DESC" : column);
+      }
+      sql.append(" ORDER BY ").append(String.join(", ", orderedColumns)).append(" LIMIT ?");
+    } else if (sorterType != Project.SorterType.NONE) {
+      sql.append(" ORDER BY ").append(sorterType.getColumnName());
+      if (descending) {
+        sql.append(" DESC");
+      }
+    }
+    return sql.toString();
+  }
+
+  private List<String> getKeyColumns() {
+    if (sorterType == Project.SorterType.NONE) {
+      return List.of("p.ProjectId");
+    }
+    return List.of(sorterType.getColumnName(), "p.ProjectId");
+  }
+
+  private String getKeysetPredicate() {
+    List<String> keyColumns = getKeyColumns();
+    String comparison = descending ? " < " : " > ";
+    if (keyColumns.size() == 1) {
+      return keyColumns.get(0) + comparison + "?";
+    }
+    return "(" + String.join(", ", keyColumns) + ")" + comparison + "(?, ?)";
+  }
+
+  private String getStatusPredicate() {
+    if (allowedStatuses.isEmpty()) {
+      return "0";
+    }
+    return "p.StatusId IN ("
+        + String.join(", ", Collections.nCopies(allowedStatuses.size(), "?"))
+        + ")";
+  }
+
+  private String getDeadlineStatusPredicate() {
+    List<String> ranges = new ArrayList<>();
+    boolean inTime = allowedDeadlineStatuses.contains(Project.DeadlineStatus.IN_TIME_TO_FINISH);
+    boolean overdue = allowedDeadlineStatuses.contains(Project.DeadlineStatus.OVERDUE);
+    if (inTime && overdue) {
+      ranges.add("p.CompletionState = " + UNFINISHED);
+    } else if (inTime) {
+      ranges.add("(p.CompletionState = " + UNFINISHED + " AND p.Deadline >= ?)");
+    } else if (overdue) {
+      ranges.add("(p.CompletionState = " + UNFINISHED + " AND p.Deadline < ?)");
+    }
+    if (allowedDeadlineStatuses.contains(Project.DeadlineStatus.FINISHED_IN_TIME)) {
+      ranges.add("p.CompletionState = " + FINISHED_IN_TIME);
+    }
+    if (allowedDeadlineStatuses.contains(Project.DeadlineStatus.FINISHED_LATE)) {
+      ranges.add("p.CompletionState = " + FINISHED_LATE);
+    }
+    if (ranges.isEmpty()) {
+      return "0";
+    }
+    return ranges.size() == 1 ? ranges.get(0) : "(" + String.join(" OR ", ranges) + ")";
+  }
+
+  private boolean allowsExactlyOneOfInTimeAndOverdue() {
+    return allowedDeadlineStatuses.contains(Project.DeadlineStatus.IN_TIME_TO_FINISH)
+        != allowedDeadlineStatuses.contains(Project.DeadlineStatus.OVERDUE);
+  }
+
+  /** @return true if not all values of the enum are allowed, so the set is a real constraint. */
+  private static <E extends Enum<E>> boolean isConstrained(EnumSet<E> allowed, Class<E> enumClass) {
+    return allowed.size() < enumClass.getEnumConstants().length;
+  }
+}
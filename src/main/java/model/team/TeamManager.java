@@ -3,9 +3,17 @@ package model.team;
 import model.InexistentDatabaseEntityException;
 import model.Manager;
 import model.UnauthorisedOperationException;
+import model.database.UnitOfWork;
 import model.project.ProjectManager;
 import model.user.exceptions.*;
 import model.user.User;
+import model.team.events.MemberAddedEvent;
+import model.team.events.MemberRemovedEvent;
+import model.team.events.TeamCodeChangedEvent;
+import model.team.events.TeamCreatedEvent;
+import model.team.events.TeamDeletedEvent;
+import model.team.events.TeamManagerChangedEvent;
+import model.team.events.TeamRenamedEvent;
 import model.team.exceptions.*;
 
 import java.sql.SQLException;
@@ -53,16 +61,17 @@ public class TeamManager extends Manager {
   public void createNewTeam(String name)
       throws SQLException, NoSignedInUserException, InexistentDatabaseEntityException {
     User currentUser = getMandatoryCurrentUser();
-    int teamId =
+    Team savedTeam =
         teamRepository.saveTeam(
             new Team.SavableTeam(name, currentUser.getId(), generateTeamCode()));
-    teamRepository.addTeamMember(teamId, currentUser.getId());
-    support.firePropertyChange(ChangablePropertyName.CREATE_TEAM.toString(), OLD_VALUE, NEW_VALUE);
+    support.fireEvent(new TeamCreatedEvent(this, savedTeam));
   }
 
   /**
    * Deletes the team with the specified id from the database, but only if the current user is its
-   * manager. To do so, first, all the memberships and projects of the team are deleted.
+   * manager. To do so, first, all the memberships and projects of the team are deleted. All the
+   * deletions are committed in a single transaction, so either the whole team is deleted, or
+   * nothing.
    *
    * @param teamId is the id of the team to delete.
    * @throws SQLException if the operation could not be performed in the database.
@@ -79,10 +88,13 @@ public class TeamManager extends Manager {
     Team team = getMandatoryTeam(teamId);
     User currentUser = getMandatoryCurrentUser();
     guaranteeUserIsManager(team, currentUser, "delete the team");
-    teamRepository.deleteAllMembersOfTeam(teamId);
-    ProjectManager.getInstance().deleteAllProjectsOfTeam(teamId);
-    teamRepository.deleteTeam(teamId);
-    support.firePropertyChange(ChangablePropertyName.DELETE_TEAM.toString(), OLD_VALUE, NEW_VALUE);
+    try (UnitOfWork unitOfWork = beginUnitOfWork()) {
+      teamRepository.deleteAllMembersOfTeam(teamId);
+      ProjectManager.getInstance().deleteAllProjectsOfTeam(teamId);
+      teamRepository.deleteTeam(teamId);
+      unitOfWork.commit();
+    }
+    support.fireEvent(new TeamDeletedEvent(this, team));
   }
 
   /**
@@ -99,6 +111,21 @@ public class TeamManager extends Manager {
     return teamRepository.getTeamsOfUser(currentUser.getId());
   }
 
+  /**
+   * Returns the teams in which the currently logged in user is a member, together with the names of
+   * their managers, read with a single query.
+   *
+   * @return the list of teams having the current user as member, with the names of their managers.
+   * @throws SQLException if the operation could not be performed in the database.
+   * @throws NoSignedInUserException if the user is not signed in.
+   * @throws InexistentDatabaseEntityException - should never occur.
+   */
+  public List<TeamWithManager> getTeamsWithManagerOfCurrentUser()
+      throws SQLException, NoSignedInUserException, InexistentDatabaseEntityException {
+    User currentUser = getMandatoryCurrentUser();
+    return teamRepository.getTeamsWithManagerOfUser(currentUser.getId());
+  }
+
   /**
    * Generated a new, unique code for the team with the given id, and saves it. Remark that if no
    * team with the given id exists, nothing happens, no exception is thrown.
@@ -119,8 +146,7 @@ public class TeamManager extends Manager {
     guaranteeUserIsManager(team, currentUser, "regenerate team code");
     String newCode = generateTeamCode();
     teamRepository.setNewCode(teamId, newCode);
-    support.firePropertyChange(
-        ChangablePropertyName.CHANGED_TEAM_CODE.toString(), OLD_VALUE, NEW_VALUE);
+    support.fireEvent(new TeamCodeChangedEvent(this, teamId, newCode));
     return newCode;
   }
 
@@ -144,8 +170,7 @@ public class TeamManager extends Manager {
       throw new AlreadyMemberException(currentUser.getUsername(), team.getName());
     }
     teamRepository.addTeamMember(team.getId(), currentUser.getId());
-    support.firePropertyChange(
-        ChangablePropertyName.CURRENT_USER_TEAM_MEMBERSHIPS.toString(), OLD_VALUE, NEW_VALUE);
+    support.fireEvent(MemberAddedEvent.currentUserJoined(this, team.getId(), currentUser.getId()));
   }
 
   /**
@@ -172,8 +197,7 @@ public class TeamManager extends Manager {
       throw new ManagerRemovalException(team.getName(), currentUser.getUsername());
     }
     teamRepository.removeTeamMember(teamId, currentUser.getId());
-    support.firePropertyChange(
-        ChangablePropertyName.CURRENT_USER_TEAM_MEMBERSHIPS.toString(), OLD_VALUE, NEW_VALUE);
+    support.fireEvent(MemberRemovedEvent.currentUserLeft(this, teamId, currentUser.getId()));
   }
 
   /**
@@ -202,8 +226,7 @@ public class TeamManager extends Manager {
       throw new AlreadyMemberException(newMember.getUsername(), team.getName());
     }
     teamRepository.addTeamMember(team.getId(), newMember.getId());
-    support.firePropertyChange(
-        ChangablePropertyName.ADDED_TEAM_MEMBER.toString(), OLD_VALUE, NEW_VALUE);
+    support.fireEvent(new MemberAddedEvent(this, team.getId(), newMember.getId()));
   }
 
   /**
@@ -238,8 +261,7 @@ public class TeamManager extends Manager {
       throw new ManagerRemovalException(team.getName(), toRemoveMember.getUsername());
     }
     teamRepository.removeTeamMember(team.getId(), toRemoveMember.getId());
-    support.firePropertyChange(
-        ChangablePropertyName.REMOVED_TEAM_MEMBER.toString(), OLD_VALUE, NEW_VALUE);
+    support.fireEvent(new MemberRemovedEvent(this, team.getId(), toRemoveMember.getId()));
   }
 
   /**
@@ -268,8 +290,7 @@ public class TeamManager extends Manager {
       throw new UnregisteredMemberRoleException(newManagerName, team.getId(), "be manager");
     }
     teamRepository.setNewManagerPosition(teamId, newManager.getId());
-    support.firePropertyChange(
-        ChangablePropertyName.CHANGED_TEAM_MANAGER.toString(), OLD_VALUE, NEW_VALUE);
+    support.fireEvent(new TeamManagerChangedEvent(this, teamId, newManager.getId()));
   }
 
   /**
@@ -292,8 +313,7 @@ public class TeamManager extends Manager {
     User currentUser = getMandatoryCurrentUser();
     guaranteeUserIsManager(team, currentUser, "change the name of the team");
     teamRepository.setNewName(teamId, newTeamName);
-    support.firePropertyChange(
-        ChangablePropertyName.CHANGED_TEAM_NAME.toString(), OLD_VALUE, NEW_VALUE);
+    support.fireEvent(new TeamRenamedEvent(this, teamId, newTeamName));
   }
 
   /**
@@ -0,0 +1,24 @@
+package model.team;
+
+/**
+ * TeamWithManager is a read model of a team, which also holds the name of its manager, read
+ * together with the team, so a list of teams can be displayed without looking up each manager
+ * separately. Remark that the team itself is not a copy, so it must not be modified.
+ */
+public class TeamWithManager {
+  private final Team team;
+  private final String managerName;
+
+  public TeamWithManager(Team team, String managerName) {
+    this.team = team;
+    this.managerName = managerName;
+  }
+
+  public Team getTeam() {
+    return team;
+  }
+
+  public String getManagerName() {
+    return managerName;
+  }
+}
@@ -0,0 +1,36 @@
+package model.team.events;
+
+import model.team.TeamManager;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MemberAddedEvent is fired by the TeamManager when the manager of a team adds a new member to it,
+ * or when the current user joins a team.
+ */
+public class MemberAddedEvent extends MembershipChangeEvent {
+  public MemberAddedEvent(Object source, int teamId, int memberId) {
+    this(
+        source,
+        TeamManager.ChangablePropertyName.ADDED_TEAM_MEMBER.toString(),
+        Map.of(teamId, Set.of(memberId)));
+  }
+
+  private MemberAddedEvent(Object source, String propertyName, Map<Integer, Set<Integer>> changes) {
+    super(source, propertyName, changes);
+  }
+
+  /** @return the event fired when the current user joined the team with teamId. */
+  public static MemberAddedEvent currentUserJoined(Object source, int teamId, int currentUserId) {
+    return new MemberAddedEvent(
+        source,
+        TeamManager.ChangablePropertyName.CURRENT_USER_TEAM_MEMBERSHIPS.toString(),
+        Map.of(teamId, Set.of(currentUserId)));
+  }
+
+  @Override
+  protected MemberAddedEvent withChanges(Map<Integer, Set<Integer>> changes) {
+    return new MemberAddedEvent(getSource(), getPropertyName(), changes);
+  }
+}
@@ -0,0 +1,37 @@
+package model.team.events;
+
+import model.team.TeamManager;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MemberRemovedEvent is fired by the TeamManager when the manager of a team removes a member from
+ * it, or when the current user leaves a team.
+ */
+public class MemberRemovedEvent extends MembershipChangeEvent {
+  public MemberRemovedEvent(Object source, int teamId, int memberId) {
+    this(
+        source,
+        TeamManager.ChangablePropertyName.REMOVED_TEAM_MEMBER.toString(),
+        Map.of(teamId, Set.of(memberId)));
+  }
+
+  private MemberRemovedEvent(
+      Object source, String propertyName, Map<Integer, Set<Integer>> changes) {
+    super(source, propertyName, changes);
+  }
+
+  /** @return the event fired when the current user left the team with teamId. */
+  public static MemberRemovedEvent currentUserLeft(Object source, int teamId, int currentUserId) {
+    return new MemberRemovedEvent(
+        source,
+        TeamManager.ChangablePropertyName.CURRENT_USER_TEAM_MEMBERSHIPS.toString(),
+        Map.of(teamId, Set.of(currentUserId)));
+  }
+
+  @Override
+  protected MemberRemovedEvent withChanges(Map<Integer, Set<Integer>> changes) {
+    return new MemberRemovedEvent(getSource(), getPropertyName(), changes);
+  }
+}
@@ -0,0 +1,29 @@
+package model.team.events;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MembershipChangeEvent is the common type of the events fired by the TeamManager when the members
+ * of a team change. The changes are keyed by the id of the team, and the change of a team is the
+ * set of the ids of its members who joined or left it.
+ *
+ * <p>The property name of the event tells who changed the membership: ADDED_TEAM_MEMBER and
+ * REMOVED_TEAM_MEMBER if the manager of the team added or removed a member, and
+ * CURRENT_USER_TEAM_MEMBERSHIPS if the current user joined or left the team.
+ */
+public abstract class MembershipChangeEvent extends TeamChangeEvent<Set<Integer>> {
+  protected MembershipChangeEvent(
+      Object source, String propertyName, Map<Integer, Set<Integer>> changes) {
+    super(source, propertyName, changes);
+  }
+
+  /** The members changed by both events are the members changed by either of them. */
+  @Override
+  protected Set<Integer> mergeChanges(Set<Integer> earlierChange, Set<Integer> laterChange) {
+    Set<Integer> mergedChange = new LinkedHashSet<>(earlierChange);
+    mergedChange.addAll(laterChange);
+    return Set.copyOf(mergedChange);
+  }
+}
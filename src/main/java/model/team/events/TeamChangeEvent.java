@@ -0,0 +1,18 @@
+package model.team.events;
+
+import model.EntityChangeEvent;
+
+import java.util.Map;
+
+/**
+ * TeamChangeEvent is the common type of the events fired by the TeamManager. The changes are keyed
+ * by the id of the changed team, so the listeners which display a single team can ignore the events
+ * of the other teams.
+ *
+ * @param <T> is the type of the change of a team.
+ */
+public abstract class TeamChangeEvent<T> extends EntityChangeEvent<T> {
+  protected TeamChangeEvent(Object source, String propertyName, Map<Integer, T> changes) {
+    super(source, propertyName, changes);
+  }
+}
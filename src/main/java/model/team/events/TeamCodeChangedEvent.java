@@ -0,0 +1,24 @@
+package model.team.events;
+
+import model.team.TeamManager;
+
+import java.util.Map;
+
+/**
+ * TeamCodeChangedEvent is fired by the TeamManager when the manager of a team regenerates its code.
+ * The change of the team is its new code.
+ */
+public class TeamCodeChangedEvent extends TeamChangeEvent<String> {
+  public TeamCodeChangedEvent(Object source, int teamId, String newCode) {
+    this(source, Map.of(teamId, newCode));
+  }
+
+  private TeamCodeChangedEvent(Object source, Map<Integer, String> changes) {
+    super(source, TeamManager.ChangablePropertyName.CHANGED_TEAM_CODE.toString(), changes);
+  }
+
+  @Override
+  protected TeamCodeChangedEvent withChanges(Map<Integer, String> changes) {
+    return new TeamCodeChangedEvent(getSource(), changes);
+  }
+}
@@ -0,0 +1,26 @@
+package model.team.events;
+
+import model.InexistentDatabaseEntityException;
+import model.team.Team;
+import model.team.TeamManager;
+
+import java.util.Map;
+
+/**
+ * TeamCreatedEvent is fired by the TeamManager when the current user creates a new team. The change
+ * of the team is the team as it was saved.
+ */
+public class TeamCreatedEvent extends TeamChangeEvent<Team> {
+  public TeamCreatedEvent(Object source, Team team) throws InexistentDatabaseEntityException {
+    this(source, Map.of(team.getId(), team));
+  }
+
+  private TeamCreatedEvent(Object source, Map<Integer, Team> changes) {
+    super(source, TeamManager.ChangablePropertyName.CREATE_TEAM.toString(), changes);
+  }
+
+  @Override
+  protected TeamCreatedEvent withChanges(Map<Integer, Team> changes) {
+    return new TeamCreatedEvent(getSource(), changes);
+  }
+}
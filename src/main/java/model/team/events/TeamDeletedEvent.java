@@ -0,0 +1,26 @@
+package model.team.events;
+
+import model.InexistentDatabaseEntityException;
+import model.team.Team;
+import model.team.TeamManager;
+
+import java.util.Map;
+
+/**
+ * TeamDeletedEvent is fired by the TeamManager when a team is deleted, with its memberships and
+ * projects. The change of the team is the team as it was before its deletion.
+ */
+public class TeamDeletedEvent extends TeamChangeEvent<Team> {
+  public TeamDeletedEvent(Object source, Team team) throws InexistentDatabaseEntityException {
+    this(source, Map.of(team.getId(), team));
+  }
+
+  private TeamDeletedEvent(Object source, Map<Integer, Team> changes) {
+    super(source, TeamManager.ChangablePropertyName.DELETE_TEAM.toString(), changes);
+  }
+
+  @Override
+  protected TeamDeletedEvent withChanges(Map<Integer, Team> changes) {
+    return new TeamDeletedEvent(getSource(), changes);
+  }
+}
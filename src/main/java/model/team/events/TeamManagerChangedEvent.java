@@ -0,0 +1,24 @@
+package model.team.events;
+
+import model.team.TeamManager;
+
+import java.util.Map;
+
+/**
+ * TeamManagerChangedEvent is fired by the TeamManager when the manager of a team passes the manager
+ * position to another member. The change of the team is the id of its new manager.
+ */
+public class TeamManagerChangedEvent extends TeamChangeEvent<Integer> {
+  public TeamManagerChangedEvent(Object source, int teamId, int newManagerId) {
+    this(source, Map.of(teamId, newManagerId));
+  }
+
+  private TeamManagerChangedEvent(Object source, Map<Integer, Integer> changes) {
+    super(source, TeamManager.ChangablePropertyName.CHANGED_TEAM_MANAGER.toString(), changes);
+  }
+
+  @Override
+  protected TeamManagerChangedEvent withChanges(Map<Integer, Integer> changes) {
+    return new TeamManagerChangedEvent(getSource(), changes);
+  }
+}
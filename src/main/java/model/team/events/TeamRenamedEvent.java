@@ -0,0 +1,24 @@
+package model.team.events;
+
+import model.team.TeamManager;
+
+import java.util.Map;
+
+/**
+ * TeamRenamedEvent is fired by the TeamManager when the manager of a team changes its name. The
+ * changes are keyed by the id of the team, and the change of a team is its new name.
+ */
+public class TeamRenamedEvent extends TeamChangeEvent<String> {
+  public TeamRenamedEvent(Object source, int teamId, String newName) {
+    this(source, Map.of(teamId, newName));
+  }
+
+  private TeamRenamedEvent(Object source, Map<Integer, String> changes) {
+    super(source, TeamManager.ChangablePropertyName.CHANGED_TEAM_NAME.toString(), changes);
+  }
+
+  @Override
+  protected TeamRenamedEvent withChanges(Map<Integer, String> changes) {
+    return new TeamRenamedEvent(getSource(), changes);
+  }
+}
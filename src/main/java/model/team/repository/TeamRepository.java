@@ -1,7 +1,7 @@
 package model.team.repository;
 
-import model.InexistentDatabaseEntityException;
 import model.team.Team;
+import model.team.TeamWithManager;
 import model.user.User;
 
 import java.sql.SQLException;
@@ -17,14 +17,14 @@ import java.util.Optional;
 public interface TeamRepository {
 
   /**
-   * Saves the new team in the database and returns the id of the team in the database. It also sets
-   * the id of the team object.
+   * Saves the new team in the database, together with the membership of its manager in the team, in
+   * a single transaction.
    *
    * @param team holds the data of the new team to be saved. The id of team should be null.
-   * @return the id of the newly saved team.
+   * @return the newly saved team, with its id in the database.
    * @throws SQLException if the operation could not be performed in the database.
    */
-  int saveTeam(Team.SavableTeam team) throws SQLException, InexistentDatabaseEntityException;
+  Team saveTeam(Team.SavableTeam team) throws SQLException;
 
   /**
    * Deletes the team with the specified id from the database. It also deletes all the memberships
@@ -72,6 +72,16 @@ public interface TeamRepository {
    */
   List<Team> getTeamsOfUser(int userId) throws SQLException;
 
+  /**
+   * Searches for and returns all the teams in which the user is a member, together with the names
+   * of their managers, with a single query.
+   *
+   * @param userId is the id of the user whose teams are listed.
+   * @return the list of teams in which the user is a member, with the names of their managers.
+   * @throws SQLException if the operation could not be performed in the database.
+   */
+  List<TeamWithManager> getTeamsWithManagerOfUser(int userId) throws SQLException;
+
   /**
    * Adds user to the members of the team with id teamID
    *
@@ -1,8 +1,10 @@
 package model.team.repository.impl;
 
-import model.InexistentDatabaseEntityException;
-import model.database.SqliteDatabaseConnectionFactory;
+import model.database.ConnectionLease;
+import model.database.SqliteConnectionPool;
+import model.database.UnitOfWork;
 import model.team.Team;
+import model.team.TeamWithManager;
 import model.team.repository.TeamRepository;
 import model.user.User;
 
@@ -20,6 +22,8 @@ import java.util.Optional;
 public class SqliteTeamRepository implements TeamRepository {
   protected static SqliteTeamRepository instance;
 
+  private final SqliteConnectionPool connectionPool = SqliteConnectionPool.getInstance();
+
   private SqliteTeamRepository() {}
 
   /** Implemented with the singleton pattern. */
@@ -49,6 +53,12 @@ public class SqliteTeamRepository implements TeamRepository {
           + ".ManagerId, t.Code FROM Team t JOIN MemberToTeam mt ON mt.TeamId = t.TeamId WHERE mt"
           + ".MemberId = ?";
 
+  // Get the teams of a user, with the names of their managers.
+  private static final String GET_TEAMS_WITH_MANAGER_OF_USER_QUERY =
+      "SELECT t.TeamId, t.TeamName, t.ManagerId, t.Code, u.UserName AS ManagerName FROM Team t "
+          + "JOIN MemberToTeam mt ON mt.TeamId = t.TeamId JOIN User u ON u.UserId = t.ManagerId "
+          + "WHERE mt.MemberId = ?";
+
   // Set a new code for a team.
   private static final String SET_NEW_TEAMCODE_STATEMENT =
       "UPDATE Team SET Code = ? WHERE " + "TeamId = ?";
@@ -82,27 +92,28 @@ public class SqliteTeamRepository implements TeamRepository {
           + " m.TeamId = ?";
 
   @Override
-  public int saveTeam(Team.SavableTeam team)
-      throws SQLException, InexistentDatabaseEntityException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement saveTeamSt = c.prepareStatement(SAVE_TEAM_STATEMENT); ) {
+  public Team saveTeam(Team.SavableTeam team) throws SQLException {
+    // the team and the membership of its manager are committed together
+    try (UnitOfWork unitOfWork = connectionPool.beginUnitOfWork();
+        ConnectionLease lease = connectionPool.leaseWriter()) {
+      PreparedStatement saveTeamSt = lease.prepareStatement(SAVE_TEAM_STATEMENT);
       saveTeamSt.setString(1, team.getName());
       saveTeamSt.setInt(2, team.getManagerId());
       saveTeamSt.setString(3, team.getCode());
-      saveTeamSt.executeUpdate();
-      Optional<Team> savedTeam = getTeam(team.getCode());
-      if (savedTeam.isPresent()) {
-        return savedTeam.get().getId();
-      } else {
-        throw new SQLException("Saving team was unsuccessful");
-      }
+      int teamId = lease.executeInsert(saveTeamSt);
+      PreparedStatement addManagerSt = lease.prepareStatement(ADD_TEAM_MEMBERSHIP_STATEMENT);
+      addManagerSt.setInt(1, team.getManagerId());
+      addManagerSt.setInt(2, teamId);
+      addManagerSt.executeUpdate();
+      unitOfWork.commit();
+      return new Team(teamId, team.getName(), team.getManagerId(), team.getCode());
     }
   }
 
   @Override
   public Optional<Team> getTeam(int teamId) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement getTeamWithIdSt = c.prepareStatement(GET_TEAM_WITH_ID_QUERY); ) {
+    try (ConnectionLease lease = connectionPool.leaseReader()) {
+      PreparedStatement getTeamWithIdSt = lease.prepareStatement(GET_TEAM_WITH_ID_QUERY);
       getTeamWithIdSt.setInt(1, teamId);
       try (ResultSet result = getTeamWithIdSt.executeQuery()) {
         if (result.next()) {
@@ -120,8 +131,8 @@ public class SqliteTeamRepository implements TeamRepository {
 
   @Override
   public Optional<Team> getTeam(String code) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement getTeamWithCodeSt = c.prepareStatement(GET_TEAM_WITH_CODE_QUERY)) {
+    try (ConnectionLease lease = connectionPool.leaseReader()) {
+      PreparedStatement getTeamWithCodeSt = lease.prepareStatement(GET_TEAM_WITH_CODE_QUERY);
       getTeamWithCodeSt.setString(1, code);
       try (ResultSet result = getTeamWithCodeSt.executeQuery()) {
         if (result.next()) {
@@ -139,8 +150,8 @@ public class SqliteTeamRepository implements TeamRepository {
 
   @Override
   public List<Team> getTeamsOfUser(int userId) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement getTeamsOfUserSt = c.prepareStatement(GET_TEAMS_OF_USER_QUERY)) {
+    try (ConnectionLease lease = connectionPool.leaseReader()) {
+      PreparedStatement getTeamsOfUserSt = lease.prepareStatement(GET_TEAMS_OF_USER_QUERY);
       getTeamsOfUserSt.setInt(1, userId);
       try (ResultSet result = getTeamsOfUserSt.executeQuery()) {
         List<Team> usersTeams = new ArrayList<>();
@@ -156,10 +167,32 @@ public class SqliteTeamRepository implements TeamRepository {
     }
   }
 
+  @Override
+  public List<TeamWithManager> getTeamsWithManagerOfUser(int userId) throws SQLException {
+    try (ConnectionLease lease = connectionPool.leaseReader()) {
+      PreparedStatement getTeamsWithManagerSt =
+          lease.prepareStatement(GET_TEAMS_WITH_MANAGER_OF_USER_QUERY);
+      getTeamsWithManagerSt.setInt(1, userId);
+      try (ResultSet result = getTeamsWithManagerSt.executeQuery()) {
+        List<TeamWithManager> usersTeams = new ArrayList<>();
+        while (result.next()) {
+          int id = result.getInt("TeamId");
+          String teamName = result.getString("TeamName");
+          int managerId = result.getInt("ManagerId");
+          String teamCode = result.getString("Code");
+          usersTeams.add(
+              new TeamWithManager(
+                  new Team(id, teamName, managerId, teamCode), result.getString("ManagerName")));
+        }
+        return usersTeams;
+      }
+    }
+  }
+
   @Override
   public void deleteTeam(int teamId) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement deleteTeamSt = c.prepareStatement(DELETE_TEAM_STATEMENT)) {
+    try (ConnectionLease lease = connectionPool.leaseWriter()) {
+      PreparedStatement deleteTeamSt = lease.prepareStatement(DELETE_TEAM_STATEMENT);
       deleteTeamSt.setInt(1, teamId);
       deleteTeamSt.executeUpdate();
     }
@@ -167,9 +200,9 @@ public class SqliteTeamRepository implements TeamRepository {
 
   @Override
   public void deleteAllMembersOfTeam(int teamId) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement removeAllTeamMembersSt =
-            c.prepareStatement(REMOVE_ALL_TEAM_MEMBERS_STATEMENT)) {
+    try (ConnectionLease lease = connectionPool.leaseWriter()) {
+      PreparedStatement removeAllTeamMembersSt =
+          lease.prepareStatement(REMOVE_ALL_TEAM_MEMBERS_STATEMENT);
       removeAllTeamMembersSt.setInt(1, teamId);
       removeAllTeamMembersSt.execute();
     }
@@ -177,8 +210,8 @@ public class SqliteTeamRepository implements TeamRepository {
 
   @Override
   public void addTeamMember(int teamId, int userId) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement addTeamMembershipSt = c.prepareStatement(ADD_TEAM_MEMBERSHIP_STATEMENT)) {
+    try (ConnectionLease lease = connectionPool.leaseWriter()) {
+      PreparedStatement addTeamMembershipSt = lease.prepareStatement(ADD_TEAM_MEMBERSHIP_STATEMENT);
       addTeamMembershipSt.setInt(1, userId);
       addTeamMembershipSt.setInt(2, teamId);
       addTeamMembershipSt.executeUpdate();
@@ -187,9 +220,9 @@ public class SqliteTeamRepository implements TeamRepository {
 
   @Override
   public void removeTeamMember(int teamId, int userId) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement removeTeamMembershipSt =
-            c.prepareStatement(REMOVE_TEAM_MEMBERSHIP_STATEMENT)) {
+    try (ConnectionLease lease = connectionPool.leaseWriter()) {
+      PreparedStatement removeTeamMembershipSt =
+          lease.prepareStatement(REMOVE_TEAM_MEMBERSHIP_STATEMENT);
       removeTeamMembershipSt.setInt(1, userId);
       removeTeamMembershipSt.setInt(2, teamId);
       removeTeamMembershipSt.executeUpdate();
@@ -198,8 +231,8 @@ public class SqliteTeamRepository implements TeamRepository {
 
   @Override
   public boolean isMemberOfTeam(int teamId, int userId) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement isMemberSt = c.prepareStatement(IS_MEMBER_QUERY)) {
+    try (ConnectionLease lease = connectionPool.leaseReader()) {
+      PreparedStatement isMemberSt = lease.prepareStatement(IS_MEMBER_QUERY);
       isMemberSt.setInt(1, teamId);
       isMemberSt.setInt(2, userId);
       try (ResultSet result = isMemberSt.executeQuery()) {
@@ -210,8 +243,8 @@ public class SqliteTeamRepository implements TeamRepository {
 
   @Override
   public void setNewCode(int teamId, String newCode) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement setNewCodeSt = c.prepareStatement(SET_NEW_TEAMCODE_STATEMENT)) {
+    try (ConnectionLease lease = connectionPool.leaseWriter()) {
+      PreparedStatement setNewCodeSt = lease.prepareStatement(SET_NEW_TEAMCODE_STATEMENT);
       setNewCodeSt.setString(1, newCode);
       setNewCodeSt.setInt(2, teamId);
       setNewCodeSt.executeUpdate();
@@ -220,8 +253,8 @@ public class SqliteTeamRepository implements TeamRepository {
 
   @Override
   public void setNewManagerPosition(int teamId, int managerId) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement setManagerSt = c.prepareStatement(SET_MANAGER_STATEMENT)) {
+    try (ConnectionLease lease = connectionPool.leaseWriter()) {
+      PreparedStatement setManagerSt = lease.prepareStatement(SET_MANAGER_STATEMENT);
       setManagerSt.setInt(1, managerId);
       setManagerSt.setInt(2, teamId);
       setManagerSt.executeUpdate();
@@ -230,8 +263,8 @@ public class SqliteTeamRepository implements TeamRepository {
 
   @Override
   public void setNewName(int teamId, String newTeamName) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement setNameSt = c.prepareStatement(SET_NAME_STATEMENT)) {
+    try (ConnectionLease lease = connectionPool.leaseWriter()) {
+      PreparedStatement setNameSt = lease.prepareStatement(SET_NAME_STATEMENT);
       setNameSt.setString(1, newTeamName);
       setNameSt.setInt(2, teamId);
       setNameSt.executeUpdate();
@@ -240,8 +273,8 @@ public class SqliteTeamRepository implements TeamRepository {
 
   @Override
   public List<User> getMembersOfTeam(int teamId) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement getTeamMembersSt = c.prepareStatement(GET_TEAM_MEMBERS_QUERY)) {
+    try (ConnectionLease lease = connectionPool.leaseReader()) {
+      PreparedStatement getTeamMembersSt = lease.prepareStatement(GET_TEAM_MEMBERS_QUERY);
       List<User> members = new ArrayList<>();
       getTeamMembersSt.setInt(1, teamId);
       try (ResultSet resultSet = getTeamMembersSt.executeQuery()) {
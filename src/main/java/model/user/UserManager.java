@@ -8,6 +8,8 @@ import model.user.exceptions.NoSignedInUserException;
 import org.jetbrains.annotations.Nullable;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /** Singleton class UserManager. */
@@ -106,7 +108,8 @@ public class UserManager extends Manager {
     } catch (InexistentDatabaseEntityException e) {
       throw new SQLException(); // this can be handled as a database exception
     }
-    support.firePropertyChange(UPDATE_ACCOUNT_PROPERTY, oldUser, currentUser);
+    // a single change, which the views showing the current user must see before the call returns
+    support.firePropertyChangeNow(UPDATE_ACCOUNT_PROPERTY, oldUser, currentUser);
   }
 
   /**
@@ -121,6 +124,18 @@ public class UserManager extends Manager {
     return userRepository.getUserById(id);
   }
 
+  /**
+   * Finds and returns the users with the specified ids, with a single query for all of them, so the
+   * names displayed on a screen can be resolved at once.
+   *
+   * @param ids are the ids of the users to search for.
+   * @return the found users, keyed by their id.
+   * @throws SQLException if the data could not be retrieved from the database.
+   */
+  public Map<Integer, User> getUsersByIds(Collection<Integer> ids) throws SQLException {
+    return userRepository.getUsersByIds(ids);
+  }
+
   public void logOut() {
     currentUser = null;
   }
@@ -5,6 +5,8 @@ import model.user.User;
 import model.user.exceptions.DuplicateUsernameException;
 import org.jetbrains.annotations.Nullable;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
 
 /** Interface to manage the user data in the database. */
 public interface UserRepository {
@@ -15,10 +17,11 @@ public interface UserRepository {
    * unique, there cannot be
    *
    * @param user = the user to be saved
+   * @return the saved user, with the generated id
    * @throws SQLException if the user could not be saved
    * @throws DuplicateUsernameException if the username is already taken
    */
-  void saveUser(User user) throws SQLException, DuplicateUsernameException;
+  User saveUser(User user) throws SQLException, DuplicateUsernameException;
   /**
    * Gets the user's id when validating the sign-in operation.
    *
@@ -37,6 +40,15 @@ public interface UserRepository {
    */
   @Nullable
   User getUserById(int id) throws SQLException;
+  /**
+   * Finds the users with the given ids in the database, with as few queries as possible, instead of
+   * one query for each user.
+   *
+   * @param ids = the ids of the users, possibly with duplicates
+   * @return the found users, keyed by their id. The ids of inexistent users are missing from it.
+   * @throws SQLException if the data could not be accessed in the database.
+   */
+  Map<Integer, User> getUsersByIds(Collection<Integer> ids) throws SQLException;
   /**
    * Finds the user in the database based on its username, used when managing the members of a team.
    *
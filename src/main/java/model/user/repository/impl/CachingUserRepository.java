@@ -0,0 +1,204 @@
+package model.user.repository.impl;
+
+import model.InexistentDatabaseEntityException;
+import model.database.CacheStatistics;
+import model.database.SqliteConnectionPool;
+import model.user.User;
+import model.user.exceptions.DuplicateUsernameException;
+import model.user.repository.UserRepository;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CachingUserRepository is a UserRepository which keeps the users it has already read, and
+ * delegates the queries of the other users, as well as the sign-in and the writes, to another
+ * UserRepository. The users are indexed both by their id and by their username, so the sender of a
+ * comment, the manager of a team or a member looked up by name are read from the database only the
+ * first time.
+ *
+ * <p>It is an identity map: all the lookups of the same user return the same instance, which must
+ * not be modified by the callers. Users which were not found are not cached, since they may sign up
+ * later. The number of cached users is bounded: the least recently used one is evicted when the
+ * cache is full. An updated user is removed from both indexes after the unit of work of the update
+ * ends, and reads made inside a unit of work bypass the cache.
+ *
+ * <p>Implemented with the singleton pattern.
+ */
+public class CachingUserRepository implements UserRepository {
+  protected static CachingUserRepository instance;
+
+  // The maximal number of cached users.
+  private static final int CAPACITY = 1024;
+
+  private final UserRepository repository;
+  private final SqliteConnectionPool connectionPool = SqliteConnectionPool.getInstance();
+  private final CacheStatistics statistics = new CacheStatistics();
+
+  // The cached users in access order, keyed by their id.
+  private final Map<Integer, User> usersById =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, User> eldest) {
+          if (size() > CAPACITY) {
+            statistics.recordEviction();
+            idsByUsername.remove(eldest.getValue().getUsername());
+            return true;
+          }
+          return false;
+        }
+      };
+  // The ids of the cached users, keyed by their username.
+  private final Map<String, Integer> idsByUsername = new HashMap<>();
+  // Incremented by each invalidation, so a query which overlapped with an update is not cached.
+  private long version = 0;
+
+  private CachingUserRepository(UserRepository repository) {
+    this.repository = repository;
+  }
+
+  /** Implemented with the singleton pattern. */
+  public static CachingUserRepository getInstance() {
+    if (instance == null) {
+      instance = new CachingUserRepository(SqliteUserRepository.getInstance());
+    }
+    return instance;
+  }
+
+  /** @return the hit, miss, eviction and invalidation counters of the cache. */
+  public CacheStatistics getStatistics() {
+    return statistics;
+  }
+
+  @Override
+  public User saveUser(User user) throws SQLException, DuplicateUsernameException {
+    return repository.saveUser(user);
+  }
+
+  @Override
+  public int getUserId(String username, String password) throws SQLException {
+    return repository.getUserId(username, password);
+  }
+
+  @Override
+  @Nullable
+  public User getUserById(int id) throws SQLException {
+    if (connectionPool.isInUnitOfWork()) {
+      return repository.getUserById(id);
+    }
+    long versionBeforeQuery;
+    synchronized (this) {
+      User cachedUser = usersById.get(id);
+      if (cachedUser != null) {
+        statistics.recordHit();
+        return cachedUser;
+      }
+      versionBeforeQuery = version;
+    }
+    statistics.recordMiss();
+    return cache(repository.getUserById(id), versionBeforeQuery);
+  }
+
+  /** Returns the cached users, and reads only the missing ones from the database, together. */
+  @Override
+  public Map<Integer, User> getUsersByIds(Collection<Integer> ids) throws SQLException {
+    if (connectionPool.isInUnitOfWork()) {
+      return repository.getUsersByIds(ids);
+    }
+    Map<Integer, User> users = new HashMap<>();
+    List<Integer> missingIds = new ArrayList<>();
+    long versionBeforeQuery;
+    synchronized (this) {
+      for (Integer id : ids) {
+        User cachedUser = usersById.get(id);
+        if (cachedUser != null) {
+          users.put(id, cachedUser);
+        } else {
+          missingIds.add(id);
+        }
+      }
+      versionBeforeQuery = version;
+    }
+    statistics.recordHits(ids.size() - missingIds.size());
+    if (!missingIds.isEmpty()) {
+      statistics.recordMisses(missingIds.size());
+      for (User user : repository.getUsersByIds(missingIds).values()) {
+        User cachedUser = cache(user, versionBeforeQuery);
+        users.put(getId(cachedUser), cachedUser);
+      }
+    }
+    return users;
+  }
+
+  @Override
+  @Nullable
+  public User getUserByUsername(String username) throws SQLException {
+    if (connectionPool.isInUnitOfWork()) {
+      return repository.getUserByUsername(username);
+    }
+    long versionBeforeQuery;
+    synchronized (this) {
+      Integer id = idsByUsername.get(username);
+      if (id != null) {
+        statistics.recordHit();
+        return usersById.get(id);
+      }
+      versionBeforeQuery = version;
+    }
+    statistics.recordMiss();
+    return cache(repository.getUserByUsername(username), versionBeforeQuery);
+  }
+
+  @Override
+  public void updateUser(User user) throws SQLException, InexistentDatabaseEntityException {
+    repository.updateUser(user);
+    int id = user.getId();
+    connectionPool.runAfterUnitOfWork(() -> invalidate(id));
+  }
+
+  /**
+   * Adds the user read from the database to the cache, unless it was not found, or the users were
+   * updated while it was read.
+   *
+   * @return the cached instance of the user, or null if it was not found.
+   */
+  @Nullable
+  private synchronized User cache(@Nullable User user, long versionBeforeQuery)
+      throws SQLException {
+    if (user == null || version != versionBeforeQuery) {
+      return user;
+    }
+    int id = getId(user);
+    User cachedUser = usersById.get(id);
+    if (cachedUser != null) {
+      // another thread cached it meanwhile, and there must be only one instance of each user
+      return cachedUser;
+    }
+    usersById.put(id, user);
+    idsByUsername.put(user.getUsername(), id);
+    return user;
+  }
+
+  private static int getId(User user) throws SQLException {
+    try {
+      return user.getId();
+    } catch (InexistentDatabaseEntityException e) {
+      throw new SQLException("The user read from the database has no id", e);
+    }
+  }
+
+  private synchronized void invalidate(int id) {
+    version++;
+    User removedUser = usersById.remove(id);
+    if (removedUser != null) {
+      idsByUsername.remove(removedUser.getUsername());
+      statistics.recordInvalidations(1);
+    }
+  }
+}
@@ -1,15 +1,25 @@
 package model.user.repository.impl;
 
 import model.InexistentDatabaseEntityException;
-import model.database.SqliteDatabaseConnectionFactory;
+import model.database.ConnectionLease;
+import model.database.SqliteConnectionPool;
 import model.user.repository.UserRepository;
 import model.user.User;
 import org.jetbrains.annotations.Nullable;
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
 public class SqliteUserRepository implements UserRepository {
   protected static SqliteUserRepository instance;
 
+  private final SqliteConnectionPool connectionPool = SqliteConnectionPool.getInstance();
+
   private SqliteUserRepository() {}
 
   /** Implemented with the singleton pattern. */
@@ -27,27 +37,29 @@ public class SqliteUserRepository implements UserRepository {
   private static final String GET_USER_BY_ID_STATEMENT = "SELECT * FROM User WHERE UserId = ?;";
   private static final String GET_USER_BY_USERNAME_STATEMENT =
       "SELECT * FROM User WHERE Username = ?;";
+  // Get the users whose id is in a list of parameters, completed by the number of parameters.
+  private static final String GET_USERS_BY_IDS_STATEMENT_PREFIX =
+      "SELECT UserId, UserName, Password FROM User WHERE UserId IN (";
+  // The maximal number of ids bound to one query, below the parameter limit of sqlite (999). The
+  // ids of a query are padded to a power of two, so only a few statement texts are prepared.
+  private static final int MAX_IDS_PER_QUERY = 512;
   private static final String UPDATE_USER_STATEMENT =
       "UPDATE User SET UserName = ?, Password = ? WHERE UserId = ?;";
 
   /** Saves the user in the database. */
-  public void saveUser(User user) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement saveUserStatement = c.prepareStatement(SAVE_USER_STATEMENT); ) {
+  public User saveUser(User user) throws SQLException {
+    try (ConnectionLease lease = connectionPool.leaseWriter()) {
+      PreparedStatement saveUserStatement = lease.prepareStatement(SAVE_USER_STATEMENT);
       saveUserStatement.setString(1, user.getUsername());
       saveUserStatement.setString(2, user.getPassword());
-      saveUserStatement.execute();
-      // check if the user was saved
-      User savedUser = getUserByUsername(user.getUsername());
-      if (savedUser == null) {
-        throw new SQLException("User could not be saved.");
-      }
+      int id = lease.executeInsert(saveUserStatement);
+      return new User(id, user.getUsername(), user.getPassword());
     }
   }
   /** Updates information about an existing user. */
   public void updateUser(User user) throws SQLException, InexistentDatabaseEntityException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement updateUserStatement = c.prepareStatement(UPDATE_USER_STATEMENT); ) {
+    try (ConnectionLease lease = connectionPool.leaseWriter()) {
+      PreparedStatement updateUserStatement = lease.prepareStatement(UPDATE_USER_STATEMENT);
       updateUserStatement.setString(1, user.getUsername());
       updateUserStatement.setString(2, user.getPassword());
       updateUserStatement.setInt(3, user.getId());
@@ -57,8 +69,8 @@ public class SqliteUserRepository implements UserRepository {
 
   /** Get the user's id based on the username and password, used for validating the sign-in. */
   public int getUserId(String username, String password) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement getUserIdStatement = c.prepareStatement(GET_USER_ID_STATEMENT); ) {
+    try (ConnectionLease lease = connectionPool.leaseReader()) {
+      PreparedStatement getUserIdStatement = lease.prepareStatement(GET_USER_ID_STATEMENT);
       getUserIdStatement.setString(1, username);
       getUserIdStatement.setString(2, password);
       try (ResultSet result = getUserIdStatement.executeQuery()) {
@@ -73,8 +85,8 @@ public class SqliteUserRepository implements UserRepository {
   /** Access the user's data based on the id of the user. */
   @Nullable
   public User getUserById(int id) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement getUserByIdStatement = c.prepareStatement(GET_USER_BY_ID_STATEMENT); ) {
+    try (ConnectionLease lease = connectionPool.leaseReader()) {
+      PreparedStatement getUserByIdStatement = lease.prepareStatement(GET_USER_BY_ID_STATEMENT);
       getUserByIdStatement.setInt(1, id);
       try (ResultSet result = getUserByIdStatement.executeQuery()) {
         if (result.next()) {
@@ -88,15 +100,47 @@ public class SqliteUserRepository implements UserRepository {
     }
   }
 
+  @Override
+  public Map<Integer, User> getUsersByIds(Collection<Integer> ids) throws SQLException {
+    List<Integer> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+    Map<Integer, User> users = new HashMap<>();
+    if (distinctIds.isEmpty()) {
+      return users;
+    }
+    try (ConnectionLease lease = connectionPool.leaseReader()) {
+      for (int from = 0; from < distinctIds.size(); from += MAX_IDS_PER_QUERY) {
+        List<Integer> chunk =
+            distinctIds.subList(from, Math.min(from + MAX_IDS_PER_QUERY, distinctIds.size()));
+        int parameterCount = Integer.highestOneBit(chunk.size() * 2 - 1);
+        PreparedStatement getUsersByIdsStatement =
+            lease.prepareStatement(
+                GET_USERS_BY_IDS_STATEMENT_PREFIX
+                    + String.join(", ", Collections.nCopies(parameterCount, "?"))
+                    + ")");
+        for (int i = 0; i < parameterCount; i++) {
+          // the missing parameters repeat the last id
+          getUsersByIdsStatement.setInt(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+        }
+        try (ResultSet result = getUsersByIdsStatement.executeQuery()) {
+          while (result.next()) {
+            int id = result.getInt("UserId");
+            users.put(id, new User(id, result.getString("UserName"), result.getString("Password")));
+          }
+        }
+      }
+    }
+    return users;
+  }
+
   /**
    * Access the user's data based on the username of the user, used when managing the members of a
    * team.
    */
   @Nullable
   public User getUserByUsername(String username) throws SQLException {
-    try (Connection c = SqliteDatabaseConnectionFactory.getConnection();
-        PreparedStatement getUserByUsernameStatement =
-            c.prepareStatement(GET_USER_BY_USERNAME_STATEMENT); ) {
+    try (ConnectionLease lease = connectionPool.leaseReader()) {
+      PreparedStatement getUserByUsernameStatement =
+          lease.prepareStatement(GET_USER_BY_USERNAME_STATEMENT);
       getUserByUsernameStatement.setString(1, username);
       try (ResultSet result = getUserByUsernameStatement.executeQuery()) {
         if (result.next()) {
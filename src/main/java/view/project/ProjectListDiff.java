@@ -0,0 +1,224 @@
+package view.project;
+
+import model.InexistentDatabaseEntityException;
+import model.project.Project;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * ProjectListDiff is the difference between two lists of projects, matched by their id: the ranges
+ * of rows which were removed from the old list, inserted into the new list, or kept with changed
+ * data. The kept projects are the longest common subsequence of the two lists, so a project which
+ * moved, for example because its new status sorts it elsewhere, is removed and inserted, and all
+ * the others are kept.
+ *
+ * <p>Applying the removals from the last one to the first one, then the insertions from the first
+ * one to the last one turns the old list into the new one. The updated ranges refer to the new
+ * list. The ranges of each kind are disjoint and contiguous ranges are merged, so a refresh which
+ * changed nothing has no ranges at all.
+ */
+public class ProjectListDiff {
+  private final List<Project> newProjects;
+  private final List<Range> removedRanges;
+  private final List<Range> insertedRanges;
+  private final List<Range> updatedRanges;
+
+  /** A range of row indexes, with both ends inclusive. */
+  public static class Range {
+    private final int firstIndex;
+    private int lastIndex;
+
+    private Range(int firstIndex, int lastIndex) {
+      this.firstIndex = firstIndex;
+      this.lastIndex = lastIndex;
+    }
+
+    public int getFirstIndex() {
+      return firstIndex;
+    }
+
+    public int getLastIndex() {
+      return lastIndex;
+    }
+
+    @Override
+    public String toString() {
+      return "[" + firstIndex + ", " + lastIndex + "]";
+    }
+  }
+
+  private ProjectListDiff(
+      List<Project> newProjects,
+      List<Range> removedRanges,
+      List<Range> insertedRanges,
+      List<Range> updatedRanges) {
+    this.newProjects = Collections.unmodifiableList(newProjects);
+    this.removedRanges = Collections.unmodifiableList(removedRanges);
+    this.insertedRanges = Collections.unmodifiableList(insertedRanges);
+    this.updatedRanges = Collections.unmodifiableList(updatedRanges);
+  }
+
+  /**
+   * Computes the difference between the oldProjects and the newProjects. The common first and last
+   * projects are matched directly, and only the projects between them are matched by their id, in
+   * O(n log n) time.
+   */
+  public static ProjectListDiff compute(List<Project> oldProjects, List<Project> newProjects) {
+    List<Range> removedRanges = new ArrayList<>();
+    List<Range> insertedRanges = new ArrayList<>();
+    List<Range> updatedRanges = new ArrayList<>();
+    int prefixLength = 0;
+    int maxCommonLength = Math.min(oldProjects.size(), newProjects.size());
+    while (prefixLength < maxCommonLength
+        && getId(oldProjects.get(prefixLength)) == getId(newProjects.get(prefixLength))) {
+      prefixLength++;
+    }
+    int suffixLength = 0;
+    while (suffixLength < maxCommonLength - prefixLength
+        && getId(oldProjects.get(oldProjects.size() - 1 - suffixLength))
+            == getId(newProjects.get(newProjects.size() - 1 - suffixLength))) {
+      suffixLength++;
+    }
+    int oldEnd = oldProjects.size() - suffixLength;
+    int newEnd = newProjects.size() - suffixLength;
+    // kept[i] is the index in the new list of the old project at prefixLength + i, or -1
+    int[] kept = matchMiddle(oldProjects, newProjects, prefixLength, oldEnd, newEnd);
+    boolean[] newIsKept = new boolean[newEnd - prefixLength];
+    for (int i = 0; i < kept.length; i++) {
+      if (kept[i] == -1) {
+        addIndex(removedRanges, prefixLength + i);
+      } else {
+        newIsKept[kept[i] - prefixLength] = true;
+      }
+    }
+    // the removals are applied from the last one to the first one
+    Collections.reverse(removedRanges);
+    for (int i = 0; i < newIsKept.length; i++) {
+      if (!newIsKept[i]) {
+        addIndex(insertedRanges, prefixLength + i);
+      }
+    }
+    for (int i = 0; i < prefixLength; i++) {
+      if (!hasSameData(oldProjects.get(i), newProjects.get(i))) {
+        addIndex(updatedRanges, i);
+      }
+    }
+    for (int i = 0; i < kept.length; i++) {
+      if (kept[i] != -1
+          && !hasSameData(oldProjects.get(prefixLength + i), newProjects.get(kept[i]))) {
+        addIndex(updatedRanges, kept[i]);
+      }
+    }
+    for (int i = 0; i < suffixLength; i++) {
+      if (!hasSameData(oldProjects.get(oldEnd + i), newProjects.get(newEnd + i))) {
+        addIndex(updatedRanges, newEnd + i);
+      }
+    }
+    return new ProjectListDiff(
+        new ArrayList<>(newProjects), removedRanges, insertedRanges, updatedRanges);
+  }
+
+  /**
+   * Matches the old projects from start to oldEnd with the new projects from start to newEnd. Since
+   * the ids are unique in both lists, the longest common subsequence of the ids is the longest
+   * increasing subsequence of the new indexes of the old projects.
+   */
+  private static int[] matchMiddle(
+      List<Project> oldProjects, List<Project> newProjects, int start, int oldEnd, int newEnd) {
+    Map<Integer, Integer> newIndexes = new HashMap<>();
+    for (int i = start; i < newEnd; i++) {
+      newIndexes.put(getId(newProjects.get(i)), i);
+    }
+    int[] newIndexOfOld = new int[oldEnd - start];
+    // tailIndexes[k] is the position in newIndexOfOld of the smallest tail of an increasing
+    // subsequence of length k + 1, and previous links each position to its predecessor
+    int[] tailIndexes = new int[newIndexOfOld.length];
+    int[] previous = new int[newIndexOfOld.length];
+    int longestLength = 0;
+    for (int i = 0; i < newIndexOfOld.length; i++) {
+      Integer newIndex = newIndexes.get(getId(oldProjects.get(start + i)));
+      newIndexOfOld[i] = newIndex == null ? -1 : newIndex;
+      if (newIndexOfOld[i] == -1) {
+        continue;
+      }
+      int low = 0;
+      int high = longestLength;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (newIndexOfOld[tailIndexes[middle]] < newIndexOfOld[i]) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      previous[i] = low > 0 ? tailIndexes[low - 1] : -1;
+      tailIndexes[low] = i;
+      longestLength = Math.max(longestLength, low + 1);
+    }
+    int[] kept = new int[newIndexOfOld.length];
+    Arrays.fill(kept, -1);
+    for (int i = longestLength > 0 ? tailIndexes[longestLength - 1] : -1;
+        i != -1;
+        i = previous[i]) {
+      kept[i] = newIndexOfOld[i];
+    }
+    return kept;
+  }
+
+  /** Adds the index to the last range if it follows it, otherwise starts a new range. */
+  private static void addIndex(List<Range> ranges, int index) {
+    if (!ranges.isEmpty() && ranges.get(ranges.size() - 1).lastIndex == index - 1) {
+      ranges.get(ranges.size() - 1).lastIndex = index;
+    } else {
+      ranges.add(new Range(index, index));
+    }
+  }
+
+  private static int getId(Project project) {
+    try {
+      return project.getId();
+    } catch (InexistentDatabaseEntityException e) {
+      // only the projects read from the database are listed
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static boolean hasSameData(Project oldProject, Project newProject) {
+    return oldProject == newProject
+        || (oldProject.getTitle().equals(newProject.getTitle())
+            && oldProject.getTeamId() == newProject.getTeamId()
+            && oldProject.getDeadline().equals(newProject.getDeadline())
+            && oldProject.getStatus() == newProject.getStatus()
+            && oldProject.getImportance() == newProject.getImportance()
+            && oldProject.getAssigneeId() == newProject.getAssigneeId()
+            && oldProject.getSupervisorId() == newProject.getSupervisorId()
+            && Objects.equals(oldProject.getDescription(), newProject.getDescription())
+            && Objects.equals(oldProject.getFinishingDate(), newProject.getFinishingDate()));
+  }
+
+  /** @return the new list of projects. */
+  public List<Project> getNewProjects() {
+    return newProjects;
+  }
+
+  /** @return the removed ranges of the old list, from the last one to the first one. */
+  public List<Range> getRemovedRanges() {
+    return removedRanges;
+  }
+
+  /** @return the inserted ranges of the new list, from the first one to the last one. */
+  public List<Range> getInsertedRanges() {
+    return insertedRanges;
+  }
+
+  /** @return the ranges of the new list whose projects were kept, but their data changed. */
+  public List<Range> getUpdatedRanges() {
+    return updatedRanges;
+  }
+}
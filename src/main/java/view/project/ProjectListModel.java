@@ -2,6 +2,7 @@ package view.project;
 
 import model.PropertyChangeObservable;
 import model.project.Project;
+import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
 import java.beans.PropertyChangeListener;
@@ -9,6 +10,7 @@ import java.beans.PropertyChangeSupport;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * ProjectListMode represents the underlying model containing the list of projects to be displayed.
@@ -18,12 +20,46 @@ import java.util.List;
  * controller which displays the actual projects in a table, listens to the changes made in the
  * model, and updates the view.
  *
+ * <p>The projects can also be loaded lazily, page by page, through a PageLoader: the first page is
+ * loaded when the loader is set, and the following pages only when the table asks for them, as the
+ * user scrolls down. Each appended page is announced with the PROJECT_PAGE property, whose new
+ * value is the list of the appended projects. The pages are loaded asynchronously: at most one page
+ * is loading at any time, and requesting a new first page or a new list cancels the page which is
+ * still loading, so only the latest requested projects are ever displayed. When the projects
+ * change, the loaded pages are reloaded together, so the rows loaded by the user stay loaded.
+ *
+ * <p>When the list is replaced, the new value of the PROJECT_LIST property is the ProjectListDiff
+ * between the old and the new list, so the table can update only the rows which changed.
+ *
  * @author Beata Keresztes, Bori Fazakas
  */
 public class ProjectListModel implements PropertyChangeObservable {
 
+  /**
+   * PageLoader loads a page of the projects to be displayed, starting after the last project which
+   * was already loaded. The page is delivered on the Event Dispatch Thread, and its loading is
+   * cancelled by cancelling the returned future.
+   */
+  public interface PageLoader {
+    /**
+     * @param lastLoadedProject is the last project of the previous page, or null for the first
+     *     page.
+     * @param pageSize is the maximal number of projects to be loaded.
+     * @return the future projects of the page, completed exceptionally if they could not be loaded.
+     */
+    CompletableFuture<List<Project>> loadPage(@Nullable Project lastLoadedProject, int pageSize);
+  }
+
   private List<Project> projectList;
   public static final String PROJECT_LIST = "Project list";
+  public static final String PROJECT_PAGE = "Project page";
+  /** The number of projects loaded at once: a few screens of the project table. */
+  public static final int PAGE_SIZE = 50;
+
+  private @Nullable PageLoader pageLoader = null;
+  private boolean hasMorePages = false;
+  // The page which is being loaded, if any.
+  private @Nullable CompletableFuture<List<Project>> loadingPage = null;
 
   private PropertyChangeSupport support = new PropertyChangeSupport(this);
   private static ProjectListModel instance = new ProjectListModel();
@@ -37,10 +73,109 @@ public class ProjectListModel implements PropertyChangeObservable {
   }
 
   public void setProjectList(List<Project> newProjectList) {
+    cancelLoadingPage();
+    pageLoader = null;
+    hasMorePages = false;
+    replaceProjectList(newProjectList);
+  }
+
+  /**
+   * Replaces the displayed projects with the first page loaded by the pageLoader, which is kept for
+   * loading the next pages. The page which was loading before is cancelled. If the page could not
+   * be loaded, the displayed projects do not change.
+   */
+  public void loadFirstPage(PageLoader pageLoader) {
+    loadFirstProjects(pageLoader, PAGE_SIZE);
+  }
+
+  /**
+   * Reloads the displayed projects with the pageLoader which loaded them, at least as many as were
+   * loaded before, so the rows which the user has already scrolled to stay loaded. The page which
+   * was loading before is cancelled. If the projects could not be loaded, they do not change.
+   *
+   * @return false if the displayed projects were not loaded by a PageLoader, so they cannot be
+   *     reloaded.
+   */
+  public boolean reloadLoadedPages() {
+    if (pageLoader == null) {
+      return false;
+    }
+    loadFirstProjects(pageLoader, Math.max(PAGE_SIZE, projectList.size()));
+    return true;
+  }
+
+  private void loadFirstProjects(PageLoader pageLoader, int count) {
+    cancelLoadingPage();
+    CompletableFuture<List<Project>> firstPage = pageLoader.loadPage(null, count);
+    loadingPage = firstPage;
+    firstPage.whenComplete(
+        (projects, e) -> {
+          if (loadingPage != firstPage) {
+            // superseded by a newer request
+            return;
+          }
+          loadingPage = null;
+          if (e != null) {
+            return;
+          }
+          this.pageLoader = pageLoader;
+          hasMorePages = projects.size() == count;
+          replaceProjectList(new ArrayList<>(projects));
+        });
+  }
+
+  /** Appends the next page of projects, if there is one and no page is being loaded. */
+  public void loadNextPage() {
+    if (!hasMorePages || pageLoader == null || loadingPage != null) {
+      return;
+    }
+    CompletableFuture<List<Project>> nextPage =
+        pageLoader.loadPage(projectList.get(projectList.size() - 1), PAGE_SIZE);
+    loadingPage = nextPage;
+    nextPage.whenComplete(
+        (projects, e) -> {
+          if (loadingPage != nextPage) {
+            return;
+          }
+          // the listeners of the appended page may scroll the table, which must not load a page
+          // meanwhile
+          try {
+            appendNextPage(e == null ? projects : null);
+          } finally {
+            loadingPage = null;
+          }
+        });
+  }
+
+  private void appendNextPage(@Nullable List<Project> nextPage) {
+    if (nextPage == null) {
+      // don't retry at every scroll if the database fails
+      hasMorePages = false;
+      return;
+    }
+    hasMorePages = nextPage.size() == PAGE_SIZE;
+    projectList.addAll(nextPage);
+    support.firePropertyChange(PROJECT_PAGE, null, Collections.unmodifiableList(nextPage));
+  }
+
+  private void cancelLoadingPage() {
+    CompletableFuture<List<Project>> page = loadingPage;
+    if (page != null) {
+      loadingPage = null;
+      page.cancel(true);
+    }
+  }
+
+  /** @return true if the projects are loaded page by page and not all pages were loaded yet. */
+  public boolean hasMorePages() {
+    return hasMorePages;
+  }
+
+  private void replaceProjectList(List<Project> newProjectList) {
     List<Project> oldProjectList = projectList;
     projectList = newProjectList;
     support.firePropertyChange(
-        PROJECT_LIST, oldProjectList, Collections.unmodifiableCollection(projectList));
+        PROJECT_LIST, oldProjectList, ProjectListDiff.compute(oldProjectList, projectList));
   }
 
   @Override
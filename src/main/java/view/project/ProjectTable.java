@@ -5,35 +5,40 @@ import model.project.Project;
 import view.CloseableComponent;
 import view.UIFactory;
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
-import javax.swing.table.TableCellRenderer;
+import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.util.List;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * ProjectTable displays the list of projects which belong to a certain team or which are related to
  * a certain user. By double clicking on the title of the project in the table, a new ProjectFrame
  * is opened, where the user can view all the details of the selected project.
  *
+ * <p>The rows are loaded lazily: whenever the visible part of the table changes, the table asks its
+ * controller to load the next page of projects if the last loaded rows come into view.
+ *
  * @author Beata Keresztes
  */
 public class ProjectTable extends JTable implements CloseableComponent {
 
-  private DefaultTableModel tableModel;
+  private static final int CELL_PADDING = 4;
+
+  private ProjectTableModel tableModel;
   private ProjectTableController controller;
   private JFrame frame;
-  private static final String[] columnNames = {"Name", "Deadline", "Status", "Importance"};
 
   public ProjectTable(JFrame frame, ProjectListModel projectListModel) {
+    super(new ProjectTableModel());
+    this.tableModel = (ProjectTableModel) getModel();
     this.controller = new ProjectTableController(this, projectListModel);
     this.frame = frame;
     initTableDesign();
     this.addMouseListener(new TableMouseListener());
     this.setDefaultRenderer(Object.class, new ImportanceRenderer());
-    // initialize the model
-    initTableModel();
+    controller.initializeTableModel();
   }
 
   private void initTableDesign() {
@@ -47,30 +52,24 @@ public class ProjectTable extends JTable implements CloseableComponent {
     getTableHeader().setReorderingAllowed(false);
   }
 
-  private void initTableModel() {
-    tableModel = (DefaultTableModel) this.getModel();
-    tableModel.setColumnIdentifiers(columnNames);
-    controller.initializeTableModel();
+  public ProjectTableModel getProjectTableModel() {
+    return tableModel;
   }
 
-  public void clearTableModel() {
-    while (tableModel.getRowCount() > 0) {
-      tableModel.removeRow(0);
+  /**
+   * Requests the next page of projects if the end of the loaded rows is visible in the viewport
+   * containing the table.
+   */
+  public void loadNextPageIfVisible() {
+    Rectangle visibleRect = getVisibleRect();
+    int lastVisibleRow = rowAtPoint(new Point(0, visibleRect.y + visibleRect.height - 1));
+    if (lastVisibleRow == -1) {
+      // the rows don't fill the viewport
+      lastVisibleRow = getRowCount() - 1;
     }
+    controller.loadNextPageIfNeeded(lastVisibleRow);
   }
 
-  public void fillTableModel(List<Project> projectsList) {
-    for (Project project : projectsList) {
-      String[] rowData =
-          new String[] {
-            project.getTitle(),
-            String.valueOf(project.getDeadline()),
-            String.valueOf(project.getStatus()),
-            String.valueOf(project.getImportance())
-          };
-      tableModel.addRow(rowData);
-    }
-  }
   // the data in the tables cannot be edited only viewed
   @Override
   public boolean isCellEditable(int row, int column) {
@@ -88,31 +87,33 @@ public class ProjectTable extends JTable implements CloseableComponent {
     }
   }
 
-  class ImportanceRenderer implements TableCellRenderer {
+  /**
+   * ImportanceRenderer colors the background of each row by the importance of its project. Like
+   * every DefaultTableCellRenderer, it is a single label which is stamped into every cell, so
+   * painting the table allocates no components, and the colors are decoded only once.
+   */
+  class ImportanceRenderer extends DefaultTableCellRenderer {
+    private final Map<Project.Importance, Color> colors = new EnumMap<>(Project.Importance.class);
 
-    Color getColor(Project.Importance importance) {
-      switch (importance) {
-        case HIGH:
-          return Color.decode("#fcddd7");
-        case MEDIUM:
-          return Color.decode("#fbfcd7");
-        case LOW:
-          return Color.decode("#cfe6d2");
-      }
-      return Color.decode("#cfe6d2");
+    ImportanceRenderer() {
+      colors.put(Project.Importance.HIGH, Color.decode("#fcddd7"));
+      colors.put(Project.Importance.MEDIUM, Color.decode("#fbfcd7"));
+      colors.put(Project.Importance.LOW, Color.decode("#cfe6d2"));
+      setBorder(BorderFactory.createEmptyBorder(0, CELL_PADDING, 0, CELL_PADDING));
     }
 
+    @Override
     public Component getTableCellRendererComponent(
         JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
-      JTextField editor = new JTextField();
-      if (value != null) editor.setText(value.toString());
+      setText(value == null ? "" : value.toString());
+      setFont(table.getFont());
       if (isSelected) {
-        editor.setBackground(Color.LIGHT_GRAY);
+        setBackground(Color.LIGHT_GRAY);
       } else {
-        // get color from controller
-        editor.setBackground(getColor(controller.getProjectImportance(row)));
+        Project project = tableModel.getProjectAt(convertRowIndexToModel(row));
+        setBackground(colors.get(project.getImportance()));
       }
-      return editor;
+      return this;
     }
   }
 
@@ -0,0 +1,98 @@
+package view.project;
+
+import model.project.Project;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ProjectTableModel is the model of the ProjectTable, backed directly by the list of the displayed
+ * projects. It is updated incrementally: a new list of projects is applied as a ProjectListDiff,
+ * and only the removed, inserted and updated rows are announced to the table, so the table keeps
+ * its selection and scroll position, and a refresh which changed few projects repaints few rows.
+ */
+public class ProjectTableModel extends AbstractTableModel {
+  private static final String[] COLUMN_NAMES = {"Name", "Deadline", "Status", "Importance"};
+
+  private final List<Project> projects = new ArrayList<>();
+
+  @Override
+  public int getRowCount() {
+    return projects.size();
+  }
+
+  @Override
+  public int getColumnCount() {
+    return COLUMN_NAMES.length;
+  }
+
+  @Override
+  public String getColumnName(int column) {
+    return COLUMN_NAMES[column];
+  }
+
+  @Override
+  public Object getValueAt(int row, int column) {
+    Project project = projects.get(row);
+    switch (column) {
+      case 0:
+        return project.getTitle();
+      case 1:
+        return String.valueOf(project.getDeadline());
+      case 2:
+        return String.valueOf(project.getStatus());
+      case 3:
+        return String.valueOf(project.getImportance());
+      default:
+        throw new IndexOutOfBoundsException("No column " + column);
+    }
+  }
+
+  // the data in the table cannot be edited only viewed
+  @Override
+  public boolean isCellEditable(int row, int column) {
+    return false;
+  }
+
+  public Project getProjectAt(int row) {
+    return projects.get(row);
+  }
+
+  public List<Project> getProjects() {
+    return Collections.unmodifiableList(projects);
+  }
+
+  /** Turns the displayed projects into the new projects of the diff, announcing each range. */
+  public void applyDiff(ProjectListDiff diff) {
+    List<Project> newProjects = diff.getNewProjects();
+    for (ProjectListDiff.Range range : diff.getRemovedRanges()) {
+      projects.subList(range.getFirstIndex(), range.getLastIndex() + 1).clear();
+      fireTableRowsDeleted(range.getFirstIndex(), range.getLastIndex());
+    }
+    for (ProjectListDiff.Range range : diff.getInsertedRanges()) {
+      projects.addAll(
+          range.getFirstIndex(),
+          newProjects.subList(range.getFirstIndex(), range.getLastIndex() + 1));
+      fireTableRowsInserted(range.getFirstIndex(), range.getLastIndex());
+    }
+    // the kept rows may hold newer instances of the same projects
+    for (int i = 0; i < newProjects.size(); i++) {
+      projects.set(i, newProjects.get(i));
+    }
+    for (ProjectListDiff.Range range : diff.getUpdatedRanges()) {
+      fireTableRowsUpdated(range.getFirstIndex(), range.getLastIndex());
+    }
+  }
+
+  /** Appends the projects of a new page after the displayed ones. */
+  public void appendProjects(List<Project> page) {
+    if (page.isEmpty()) {
+      return;
+    }
+    int firstIndex = projects.size();
+    projects.addAll(page);
+    fireTableRowsInserted(firstIndex, projects.size() - 1);
+  }
+}
@@ -44,6 +44,8 @@ public class ProjectsPanel extends JPanel implements CloseableComponent {
 
   private void addScrollPane() {
     JScrollPane scrollPane = new JScrollPane(projectsTable);
+    // scrolling or resizing changes the viewport, and so do the appended rows
+    scrollPane.getViewport().addChangeListener(e -> projectsTable.loadNextPageIfVisible());
     // border and title of the list pane
     scrollPane.setBorder(
         BorderFactory.createTitledBorder(
@@ -0,0 +1,162 @@
+package view.project.single_project;
+
+import model.InexistentDatabaseEntityException;
+import model.comment.Comment;
+import model.comment.CommentWithSender;
+import view.UIFactory;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CommentCellRenderer draws a comment of the comment list: a header with the name of the sender and
+ * the date, above the text of the comment, wrapped at word boundaries to the width of the list.
+ *
+ * <p>It is a single component which is stamped into every visible cell, so the list holds no
+ * component for its comments. The text is wrapped with the metrics of the font, without a text
+ * component, and the height of each wrapped comment is cached by the id of the comment for the
+ * current width of the list, so laying out the list after a new comment or page measures only the
+ * comments which were not measured yet.
+ */
+class CommentCellRenderer extends JComponent implements ListCellRenderer<CommentWithSender> {
+  private static final DateTimeFormatter DATE_FORMATTER =
+      DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM);
+  private static final int CELL_GAP = 5;
+  private static final Color SEPARATOR_COLOR = Color.LIGHT_GRAY;
+
+  private final Font headerFont = UIFactory.NORMAL_TEXT_FONT;
+  private final Font textFont = UIManager.getFont("TextArea.font");
+  // The heights of the comments wrapped to cachedWidth, keyed by the id of the comment.
+  private final Map<Integer, Integer> cachedHeights = new HashMap<>();
+  private int cachedWidth = -1;
+  private int listWidth;
+  private CommentWithSender comment;
+
+  @Override
+  public Component getListCellRendererComponent(
+      JList<? extends CommentWithSender> list,
+      CommentWithSender value,
+      int index,
+      boolean isSelected,
+      boolean cellHasFocus) {
+    comment = value;
+    listWidth = list.getWidth();
+    setBackground(list.getBackground());
+    setForeground(list.getForeground());
+    return this;
+  }
+
+  @Override
+  public Dimension getPreferredSize() {
+    FontMetrics headerMetrics = getFontMetrics(headerFont);
+    FontMetrics textMetrics = getFontMetrics(textFont);
+    if (listWidth <= 0) {
+      // the list is not laid out yet, and it measures its comments again when it is resized
+      return new Dimension(0, 2 * CELL_GAP + headerMetrics.getHeight() + textMetrics.getHeight());
+    }
+    if (listWidth != cachedWidth) {
+      cachedHeights.clear();
+      cachedWidth = listWidth;
+    }
+    Integer id = getId(comment);
+    Integer height = id == null ? null : cachedHeights.get(id);
+    if (height == null) {
+      int lineCount = wrap(comment.getComment().getText(), textMetrics, getTextWidth()).size();
+      height =
+          CELL_GAP + headerMetrics.getHeight() + lineCount * textMetrics.getHeight() + CELL_GAP;
+      if (id != null) {
+        cachedHeights.put(id, height);
+      }
+    }
+    return new Dimension(listWidth, height);
+  }
+
+  @Override
+  protected void paintComponent(Graphics g) {
+    Graphics2D g2 = (Graphics2D) g;
+    Object desktopHints = Toolkit.getDefaultToolkit().getDesktopProperty("awt.font.desktophints");
+    if (desktopHints instanceof Map) {
+      g2.addRenderingHints((Map<?, ?>) desktopHints);
+    }
+    g2.setColor(getBackground());
+    g2.fillRect(0, 0, getWidth(), getHeight());
+    g2.setColor(SEPARATOR_COLOR);
+    g2.drawLine(0, getHeight() - 1, getWidth(), getHeight() - 1);
+
+    Comment displayedComment = comment.getComment();
+    g2.setColor(getForeground());
+    g2.setFont(headerFont);
+    FontMetrics headerMetrics = g2.getFontMetrics();
+    int y = CELL_GAP + headerMetrics.getAscent();
+    g2.drawString(
+        comment.getSenderName() + " - " + displayedComment.getDateTime().format(DATE_FORMATTER),
+        CELL_GAP,
+        y);
+    y += headerMetrics.getDescent();
+
+    g2.setFont(textFont);
+    FontMetrics textMetrics = g2.getFontMetrics();
+    for (String line : wrap(displayedComment.getText(), textMetrics, getTextWidth())) {
+      y += textMetrics.getHeight();
+      g2.drawString(line, CELL_GAP, y - textMetrics.getDescent());
+    }
+  }
+
+  private int getTextWidth() {
+    return Math.max(1, listWidth - 2 * CELL_GAP);
+  }
+
+  /**
+   * Breaks the text into lines no wider than the width, at the spaces, or inside a word which is
+   * wider than a whole line. The line breaks of the text are kept.
+   */
+  private static List<String> wrap(String text, FontMetrics metrics, int width) {
+    List<String> lines = new ArrayList<>();
+    int spaceWidth = metrics.charWidth(' ');
+    for (String paragraph : text.split("\n", -1)) {
+      StringBuilder line = new StringBuilder();
+      int lineWidth = 0;
+      for (String word : paragraph.split(" ", -1)) {
+        int wordWidth = metrics.stringWidth(word);
+        if (line.length() > 0 && lineWidth + spaceWidth + wordWidth > width) {
+          lines.add(line.toString());
+          line.setLength(0);
+          lineWidth = 0;
+        }
+        while (wordWidth > width && word.length() > 1) {
+          // break the word at the last character which still fits
+          int end = word.length() - 1;
+          while (end > 1 && metrics.stringWidth(word.substring(0, end)) > width) {
+            end--;
+          }
+          lines.add(word.substring(0, end));
+          word = word.substring(end);
+          wordWidth = metrics.stringWidth(word);
+        }
+        if (line.length() > 0) {
+          line.append(' ');
+          lineWidth += spaceWidth;
+        }
+        line.append(word);
+        lineWidth += wordWidth;
+      }
+      lines.add(line.toString());
+    }
+    return lines;
+  }
+
+  private static Integer getId(CommentWithSender comment) {
+    try {
+      return comment.getComment().getId();
+    } catch (InexistentDatabaseEntityException e) {
+      // only the comments read from the database are listed, but an unsaved one is not cached
+      return null;
+    }
+  }
+}
@@ -1,7 +1,7 @@
 package view.project.single_project;
 
 import controller.project.single_project.ProjectCommentController;
-import model.comment.Comment;
+import model.comment.CommentWithSender;
 import model.project.Project;
 import view.CloseableComponent;
 import view.UIFactory;
@@ -9,14 +9,16 @@ import view.UIFactory;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.time.format.DateTimeFormatter;
-import java.time.format.FormatStyle;
 import java.util.List;
 
 /**
  * The ProjectCommentPanel allows the user to view the comments added to the given project and leave
  * their own comments. This functionality is only allowed to the members of the team to which the
- * project belongs.
+ * project belongs. Only the latest comments are displayed at first, and the older ones can be
+ * loaded with the button above them.
+ *
+ * <p>The comments are displayed in a JList, which only paints the visible comments with a single
+ * CommentCellRenderer, so the panel holds no components for its comments, however many are loaded.
  *
  * @author Beata Keresztes
  */
@@ -24,14 +26,16 @@ public class ProjectCommentPanel extends JPanel implements CloseableComponent {
 
   private JTextArea commentTextArea;
   private JButton sendButton;
+  private JButton loadOlderCommentsButton;
   private JScrollPane commentListScrollPanel;
-  private JPanel commentListPanel;
-  private AdjustmentListener adjustmentListener;
+  private DefaultListModel<CommentWithSender> commentListModel;
+  private JList<CommentWithSender> commentList;
+  // True until the user scrolls through the comments, to keep the latest comment in view.
+  private boolean followLatestComment = true;
 
   private ProjectCommentController controller;
 
   private static final Dimension COMMENT_PANEL_DIMENSION = new Dimension(200, 200);
-  private static final Dimension COMMENT_AREA_DIMENSION = new Dimension(80, 80);
 
   public ProjectCommentPanel(Project project) {
     controller = new ProjectCommentController(this, project);
@@ -46,58 +50,75 @@ public class ProjectCommentPanel extends JPanel implements CloseableComponent {
     return commentArea;
   }
 
-  private void clearCommentList() {
-    commentListPanel.removeAll();
-  }
-
-  private void addCommentToPanel(Comment comment) {
-    JPanel headerPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
-    JLabel senderName = UIFactory.createLabel(controller.getSenderName(comment), null);
-    JLabel sendingDate =
-        UIFactory.createLabel(
-            comment.getDateTime().format(DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM)),
-            null);
-    headerPanel.add(senderName);
-    headerPanel.add(new JLabel("-"));
-    headerPanel.add(sendingDate);
-
-    JTextArea commentArea = createUneditableCommentArea(comment.getText());
-    JScrollPane commentScrollPane = new JScrollPane(commentArea);
-    commentScrollPane.setPreferredSize(COMMENT_AREA_DIMENSION);
-    commentScrollPane.setWheelScrollingEnabled(true);
-
-    JPanel rowPanel = new JPanel(new BorderLayout());
-    rowPanel.add(headerPanel, BorderLayout.NORTH);
-    rowPanel.add(commentScrollPane, BorderLayout.CENTER);
-
-    commentListPanel.add(rowPanel);
-  }
-
   private void fillCommentList() {
-    List<Comment> commentList = controller.getComments();
-    commentListPanel.setLayout(new GridLayout(0, 1));
-    if (commentList != null) {
-      for (Comment comment : commentList) {
-        addCommentToPanel(comment);
-      }
-    }
+    List<CommentWithSender> loadedComments = controller.getLoadedComments();
+    commentListModel.clear();
+    commentListModel.addAll(loadedComments);
+    loadOlderCommentsButton.setVisible(controller.hasOlderComments());
   }
 
-  private void initAdjustmentListener() {
-    adjustmentListener = e -> e.getAdjustable().setValue(e.getAdjustable().getMaximum());
+  private void showOlderComments() {
+    followLatestComment = false;
+    int commentCount = commentListModel.size();
+    controller
+        .loadOlderComments()
+        .thenRun(
+            () -> {
+              // the user is reading the history, so the comment read before stays at the top
+              int olderCommentCount = controller.getLoadedComments().size() - commentCount;
+              fillCommentList();
+              if (olderCommentCount > 0 && commentCount > 0) {
+                Rectangle firstReadComment =
+                    commentList.getCellBounds(olderCommentCount, olderCommentCount);
+                commentListScrollPanel
+                    .getViewport()
+                    .setViewPosition(firstReadComment.getLocation());
+              }
+            });
   }
 
   private void initCommentList() {
-    commentListPanel = new JPanel();
-    commentListScrollPanel = new JScrollPane(commentListPanel);
-    fillCommentList();
+    commentListModel = new DefaultListModel<>();
+    commentList =
+        new JList<>(commentListModel) {
+          // the comments are wrapped to the width of the viewport
+          @Override
+          public boolean getScrollableTracksViewportWidth() {
+            return true;
+          }
+        };
+    commentList.setCellRenderer(new CommentCellRenderer());
+    // the comments are only read, so they cannot be selected, and the renderer paints no selection
+    commentList.setSelectionModel(
+        new DefaultListSelectionModel() {
+          @Override
+          public void setSelectionInterval(int index0, int index1) {}
+
+          @Override
+          public void addSelectionInterval(int index0, int index1) {}
+        });
+    commentList.setFocusable(false);
+    commentList.addComponentListener(
+        new ComponentAdapter() {
+          @Override
+          public void componentResized(ComponentEvent e) {
+            // the heights of the wrapped comments depend on the width, so they are computed again
+            commentList.setFixedCellHeight(0);
+            commentList.setFixedCellHeight(-1);
+            if (followLatestComment) {
+              scrollToLatestComment();
+            }
+          }
+        });
+    commentListScrollPanel = new JScrollPane(commentList);
+    commentListScrollPanel.setHorizontalScrollBarPolicy(
+        ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
     commentListScrollPanel.setPreferredSize(COMMENT_PANEL_DIMENSION);
-    initAdjustmentListener();
-    commentListScrollPanel.addMouseWheelListener(
-        e ->
-            commentListScrollPanel
-                .getVerticalScrollBar()
-                .removeAdjustmentListener(adjustmentListener));
+    commentListScrollPanel.addMouseWheelListener(e -> followLatestComment = false);
+    loadOlderCommentsButton = UIFactory.createButton("Load older comments");
+    loadOlderCommentsButton.addActionListener(e -> showOlderComments());
+    loadOlderCommentsButton.setVisible(false);
+    showLatestComments();
   }
 
   private void initCommentArea() {
@@ -141,6 +162,7 @@ public class ProjectCommentPanel extends JPanel implements CloseableComponent {
                 commentLayout
                     .createParallelGroup()
                     .addComponent(commentsLabel)
+                    .addComponent(loadOlderCommentsButton)
                     .addComponent(commentListScrollPanel)
                     .addGroup(
                         commentLayout
@@ -151,6 +173,7 @@ public class ProjectCommentPanel extends JPanel implements CloseableComponent {
         commentLayout
             .createSequentialGroup()
             .addComponent(commentsLabel)
+            .addComponent(loadOlderCommentsButton)
             .addComponent(commentListScrollPanel)
             .addGroup(
                 commentLayout
@@ -164,16 +187,31 @@ public class ProjectCommentPanel extends JPanel implements CloseableComponent {
     commentTextArea.setEditable(false);
   }
 
-  public void updateCommentPanel() {
+  /** Appends the added comments to the end of the list, and scrolls to the latest one. */
+  public void showAddedComments(List<CommentWithSender> addedComments) {
     clearCommentArea();
-    clearCommentList();
-    fillCommentList();
-    revalidate();
-    scrollToBottom();
+    for (CommentWithSender addedComment : addedComments) {
+      commentListModel.addElement(addedComment);
+    }
+    followLatestComment = true;
+    scrollToLatestComment();
   }
 
-  private void scrollToBottom() {
-    commentListScrollPanel.getVerticalScrollBar().addAdjustmentListener(adjustmentListener);
+  private void showLatestComments() {
+    controller
+        .loadLatestComments()
+        .thenRun(
+            () -> {
+              fillCommentList();
+              followLatestComment = true;
+              scrollToLatestComment();
+            });
+  }
+
+  private void scrollToLatestComment() {
+    if (!commentListModel.isEmpty()) {
+      commentList.ensureIndexIsVisible(commentListModel.size() - 1);
+    }
   }
 
   @Override
@@ -5,7 +5,10 @@ import view.CloseableComponent;
 import view.ModifiedFlowLayout;
 import javax.swing.*;
 import java.awt.*;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * TeamListPanel is a panel which displays a label (icon) for each team in which the currently
@@ -16,6 +19,10 @@ import java.util.List;
 public class TeamListPanel extends JPanel implements CloseableComponent {
   private TeamListController controller;
   private JFrame frame;
+  // The teams requested last, which are the only ones to be displayed when they arrive.
+  private CompletableFuture<List<TeamViewModel>> requestedTeams;
+  // The displayed teams, in the order of their labels.
+  private List<TeamViewModel> displayedTeams = new ArrayList<>();
 
   public TeamListPanel(JFrame frame) {
     /**
@@ -29,10 +36,38 @@ public class TeamListPanel extends JPanel implements CloseableComponent {
   }
 
   public void updateTeams() {
-    this.removeAll();
-    List<TeamViewModel> teams = controller.getUsersTeams();
-    for (TeamViewModel team : teams) {
-      this.add(new TeamLabel(frame, team));
+    CompletableFuture<List<TeamViewModel>> teamsFuture = controller.getUsersTeams();
+    requestedTeams = teamsFuture;
+    teamsFuture.thenAccept(
+        teams -> {
+          if (requestedTeams != teamsFuture) {
+            return;
+          }
+          this.removeAll();
+          for (TeamViewModel team : teams) {
+            this.add(new TeamLabel(frame, team));
+          }
+          displayedTeams = new ArrayList<>(teams);
+          this.revalidate();
+          this.repaint();
+        });
+  }
+
+  /**
+   * Replaces only the labels of the renamed teams, without reloading the teams.
+   *
+   * @param newNames are the new names of the renamed teams, keyed by their id.
+   */
+  public void renameTeams(Map<Integer, String> newNames) {
+    for (int i = 0; i < displayedTeams.size(); i++) {
+      TeamViewModel team = displayedTeams.get(i);
+      String newName = newNames.get(team.getId());
+      if (newName != null) {
+        TeamViewModel renamedTeam = new TeamViewModel(team.getId(), newName, team.getManagerName());
+        displayedTeams.set(i, renamedTeam);
+        this.remove(i);
+        this.add(new TeamLabel(frame, renamedTeam), i);
+      }
     }
     this.revalidate();
     this.repaint();
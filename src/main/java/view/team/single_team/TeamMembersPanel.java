@@ -6,6 +6,7 @@ import view.CloseableComponent;
 import view.UIFactory;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
 import java.awt.*;
@@ -26,6 +27,8 @@ public class TeamMembersPanel extends JPanel implements ActionListener, Closeabl
   private JTextField addMemberTextField;
   private JList<String> membersList;
   private DefaultListModel<String> membersListModel;
+  // The members requested last, which are the only ones to be displayed when they arrive.
+  private CompletableFuture<List<User>> requestedMembers;
 
   private TeamMembersController controller;
 
@@ -125,10 +128,18 @@ public class TeamMembersPanel extends JPanel implements ActionListener, Closeabl
   }
 
   public void fillMembersList() {
-    List<User> members = controller.getTeamMembers();
-    for (User member : members) {
-      membersListModel.addElement(member.getUsername());
-    }
+    CompletableFuture<List<User>> membersFuture = controller.getTeamMembers();
+    requestedMembers = membersFuture;
+    membersFuture.thenAccept(
+        members -> {
+          if (members == null || requestedMembers != membersFuture) {
+            return;
+          }
+          membersListModel.removeAllElements();
+          for (User member : members) {
+            membersListModel.addElement(member.getUsername());
+          }
+        });
   }
 
   private void initMembersList() {
@@ -140,9 +151,7 @@ public class TeamMembersPanel extends JPanel implements ActionListener, Closeabl
   }
 
   public void updateMembersList() {
-    membersListModel.removeAllElements();
     fillMembersList();
-    membersList.setModel(membersListModel);
   }
 
   public void enableComponents(boolean enableManagerAccess) {
@@ -0,0 +1,16 @@
+-- Indexes for the access paths which were served by full table scans.
+
+-- getCommentsOfProject, deleteAllCommentsOfProject and deleteAllCommentsOfTeam filter on ProjectId.
+create index Comment_ProjectId_index
+	on Comment (ProjectId);
+
+-- getProjects with a given assignee or supervisor, also filtering on the status.
+create index Project_Assignee_Status_index
+	on Project (AssigneeId, StatusId);
+
+create index Project_Supervisor_Status_index
+	on Project (SupervisorId, StatusId);
+
+-- getMembersOfTeam, deleteAllMembersOfTeam: the members of a team are read from the index alone.
+create index MemberToTeam_TeamId_MemberId_index
+	on MemberToTeam (TeamId, MemberId);
@@ -0,0 +1,77 @@
+-- Stores Deadline and FinishingDate as the number of days since 1970-01-01 (LocalDate.toEpochDay),
+-- and adds the CompletionState generated column, which, together with the deadline, determines the
+-- DeadlineStatus of a project:
+--   0 - not finished: IN_TIME_TO_FINISH if Deadline >= today, OVERDUE otherwise,
+--   1 - FINISHED_IN_TIME,
+--   2 - FINISHED_LATE.
+-- The status FINISHED has the id 4 in ProjectStatus.
+-- sqlite cannot change the type of a column, so the table is rebuilt.
+
+create table Project_new
+(
+	ProjectId integer not null
+		constraint Project_pk
+			primary key autoincrement,
+	Name nvarchar(50) not null,
+	TeamId integer not null
+		references Team
+			on update restrict on delete restrict,
+	Description text,
+	Deadline integer not null,
+	AssigneeId integer not null
+		references User
+			on update restrict on delete restrict,
+	SupervisorId integer not null
+		references User
+			on update restrict on delete restrict,
+	StatusId integer not null
+		references ProjectStatus
+			on update restrict on delete restrict,
+	ImportanceId integer default 1 not null
+		references Importance
+			on update restrict on delete restrict,
+	FinishingDate integer,
+	CompletionState integer generated always as (
+		case
+			when StatusId <> 4 then 0
+			when FinishingDate <= Deadline then 1
+			when FinishingDate > Deadline then 2
+		end) virtual
+);
+
+INSERT INTO Project_new (ProjectId, Name, TeamId, Description, Deadline, AssigneeId, SupervisorId,
+                         StatusId, ImportanceId, FinishingDate)
+SELECT ProjectId, Name, TeamId, Description,
+       CAST(julianday(Deadline) - julianday('1970-01-01') AS INTEGER),
+       AssigneeId, SupervisorId, StatusId, ImportanceId,
+       CAST(julianday(FinishingDate) - julianday('1970-01-01') AS INTEGER)
+FROM Project;
+
+DROP TABLE Project;
+
+ALTER TABLE Project_new RENAME TO Project;
+
+create index Project_Deadline_index
+	on Project (Deadline desc);
+
+create index Project_Importance_index
+	on Project (ImportanceId desc);
+
+create unique index Project_ProjectId_uindex
+	on Project (ProjectId);
+
+create index Project_Status_index
+	on Project (StatusId);
+
+create unique index Project_Team_Name_index
+	on Project (TeamId, Name);
+
+create index Project_Assignee_Status_index
+	on Project (AssigneeId, StatusId);
+
+create index Project_Supervisor_Status_index
+	on Project (SupervisorId, StatusId);
+
+-- every DeadlineStatus is a range of this index
+create index Project_CompletionState_Deadline_index
+	on Project (CompletionState, Deadline);
@@ -0,0 +1,10 @@
+-- Serves the comments of a project in the order of their date: the index holds them ordered by
+-- (ProjectId, DateTime, CommentId), since CommentId is the rowid, so the latest page and the pages
+-- before a given comment are read from the index without sorting.
+-- DateTime holds LocalDateTime.toString values, whose text order is their chronological order.
+-- Comment_ProjectId_index is a prefix of the new index, so it is dropped.
+
+drop index Comment_ProjectId_index;
+
+create index Comment_ProjectId_DateTime_index
+	on Comment (ProjectId, DateTime);
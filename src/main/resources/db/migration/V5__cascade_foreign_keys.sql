@@ -0,0 +1,65 @@
+-- Deleting a project cascades to its comments, and deleting a team cascades to its memberships, so
+-- the database itself removes the dependent rows. The application keeps deleting them too.
+-- sqlite cannot change a foreign key, so both tables are rebuilt with all their current indexes.
+
+create table Comment_new
+(
+	CommentId integer not null
+		constraint Comment_pk
+			primary key autoincrement,
+	ProjectId integer not null
+		references Project
+			on update restrict on delete cascade,
+	CommentText text not null,
+	SenderId integer not null
+		constraint Comment_Sender_fk
+			references User
+				on update restrict on delete restrict,
+	DateTime nvarchar(60) not null
+);
+
+INSERT INTO Comment_new (CommentId, ProjectId, CommentText, SenderId, DateTime)
+SELECT CommentId, ProjectId, CommentText, SenderId, DateTime
+FROM Comment;
+
+DROP TABLE Comment;
+
+ALTER TABLE Comment_new RENAME TO Comment;
+
+create unique index Comment_Id_uindex
+	on Comment (CommentId);
+
+create index Comment_ProjectId_DateTime_index
+	on Comment (ProjectId, DateTime);
+
+create table MemberToTeam_new
+(
+	Id integer not null
+		constraint MemberToTeam_pk
+			primary key autoincrement,
+	MemberId integer not null
+		constraint MemberToTeam_User_fk
+			references User
+				on update restrict on delete restrict,
+	TeamId integer not null
+		constraint MemberToTeam_Team_fk
+			references Team
+				on update restrict on delete cascade
+);
+
+INSERT INTO MemberToTeam_new (Id, MemberId, TeamId)
+SELECT Id, MemberId, TeamId
+FROM MemberToTeam;
+
+DROP TABLE MemberToTeam;
+
+ALTER TABLE MemberToTeam_new RENAME TO MemberToTeam;
+
+create unique index MemberToTeam_Id_uindex
+	on MemberToTeam (Id);
+
+create unique index MemberToTeam_MemberId_TeamId_uindex
+	on MemberToTeam (MemberId, TeamId);
+
+create index MemberToTeam_TeamId_MemberId_index
+	on MemberToTeam (TeamId, MemberId);